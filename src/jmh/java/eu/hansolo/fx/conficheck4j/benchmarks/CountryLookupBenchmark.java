@@ -0,0 +1,74 @@
+package eu.hansolo.fx.conficheck4j.benchmarks;
+
+import eu.hansolo.fx.conficheck4j.flag.Flag;
+import eu.hansolo.fx.conficheck4j.tools.IsoCountries;
+import eu.hansolo.fx.conficheck4j.tools.IsoCountryCodes;
+import eu.hansolo.fx.conficheck4j.tools.IsoCountryInfo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Compares the former linear scans over all flags/countries with the hash indexes of Flag and IsoCountries.
+ * The scans are copies of the implementations that have been replaced.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CountryLookupBenchmark {
+    private static final String[] ISO2_CODES  = { "DE", "US", "GB", "JP", "BR", "ZA", "AU", "IN", "MN", "KI" };
+    private static final String[] ISO3_CODES  = { "DEU", "USA", "GBR", "JPN", "BRA", "ZAF", "AUS", "IND", "MNG", "KIR" };
+    private static final String[] MIXED_CODES = { "de", "USA", "276", "gb", "jpn", "076", "za", "AUS", "356", "kir" };
+    private static final String[] NAMES       = { "Germany", "united states of america", "Japan", "brazil", "South Africa", "Australia", "india", "Mongolia", "Kiribati", "france" };
+    private              int      index;
+
+
+    private int next() {
+        index = (index + 1) % ISO2_CODES.length;
+        return index;
+    }
+
+
+    // ******************** Flags *********************************************
+    @Benchmark public Flag flagIso2LinearScan() {
+        final String iso2 = ISO2_CODES[next()];
+        return Arrays.asList(Flag.values()).stream().filter(flag -> !flag.getIso2().isEmpty()).filter(flag -> flag.getIso2().equals(iso2)).findFirst().orElse(Flag.NOT_FOUND);
+    }
+
+    @Benchmark public Flag flagIso2Index() { return Flag.iso2(ISO2_CODES[next()]); }
+
+    @Benchmark public Flag flagIso3LinearScan() {
+        final String iso3 = ISO3_CODES[next()];
+        return Arrays.asList(Flag.values()).stream().filter(flag -> !flag.getIso3().isEmpty()).filter(flag -> flag.getIso3().equals(iso3)).findFirst().orElse(Flag.NOT_FOUND);
+    }
+
+    @Benchmark public Flag flagIso3Index() { return Flag.iso3(ISO3_CODES[next()]); }
+
+
+    // ******************** Countries *****************************************
+    @Benchmark public Optional<IsoCountryInfo> countryFindParallelStream() {
+        final String key = MIXED_CODES[next()];
+        return IsoCountries.ALL_COUNTRIES.parallelStream()
+                                         .filter(isoCountryInfo -> isoCountryInfo.alpha2().equals(key.toUpperCase()) ||
+                                                                   isoCountryInfo.alpha3().equals(key.toUpperCase()) ||
+                                                                   isoCountryInfo.numeric().equals(key.toUpperCase()))
+                                         .findFirst();
+    }
+
+    @Benchmark public Optional<IsoCountryInfo> countryFindIndex() { return IsoCountryCodes.find(MIXED_CODES[next()]); }
+
+    @Benchmark public Optional<IsoCountryInfo> countryByNameParallelStream() {
+        final String name = NAMES[next()];
+        return IsoCountries.ALL_COUNTRIES.parallelStream().filter(isoCountryInfo -> isoCountryInfo.name().equalsIgnoreCase(name)).findFirst();
+    }
+
+    @Benchmark public Optional<IsoCountryInfo> countryByNameIndex() { return IsoCountryCodes.searchByName(NAMES[next()]); }
+}
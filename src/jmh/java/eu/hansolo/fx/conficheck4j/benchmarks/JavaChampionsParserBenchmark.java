@@ -0,0 +1,120 @@
+package eu.hansolo.fx.conficheck4j.benchmarks;
+
+import eu.hansolo.fx.conficheck4j.tools.Constants;
+import eu.hansolo.fx.conficheck4j.tools.Helper;
+import eu.hansolo.fx.conficheck4j.tools.JavaChampion;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+
+/**
+ * Compares the former parser of java-champions.yml (whole file as one String, YAML_NAME_REGEX on every line)
+ * with the streaming reader of Helper.parseJavaChampions() that prefilters the lines before using the regex.
+ * Both read the same fixture. A downloaded java-champions.yml can be passed via the yamlFile param (e.g.
+ * java -jar build/libs/*-jmh.jar JavaChampionsParserBenchmark -p yamlFile=java-champions.yml), otherwise
+ * a file with the same structure will be generated.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JavaChampionsParserBenchmark {
+    private static final String[] FIRST_NAMES   = { "Adam", "Heinz", "Trisha", "Venkat", "José", "Ana-Maria", "Sébastien", "Jürgen", "Mala", "Bruno" };
+    private static final String[] LAST_NAMES    = { "Bien", "Kabutz", "Gee", "Subramaniam", "Paumard", "Mihalceanu", "Blanc", "Höller", "Gupta", "Borges" };
+    private static final String[] TITLES        = { "", "", "", "Dr. ", "", "Prof. ", "", "", "", "" };
+    private static final int      NO_OF_MEMBERS = 450;
+    @Param({ "" })
+    public               String   yamlFile;
+    private              Path     fixture;
+    private              boolean  generated;
+
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        if (null != yamlFile && !yamlFile.isBlank()) {
+            this.fixture   = Paths.get(yamlFile);
+            this.generated = false;
+        } else {
+            this.fixture   = Files.createTempFile("java-champions", ".yml");
+            this.generated = true;
+            Files.writeString(this.fixture, createYaml(), UTF_8);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        if (this.generated) { Files.deleteIfExists(this.fixture); }
+    }
+
+
+    // ******************** Benchmarks ****************************************
+    @Benchmark public List<JavaChampion> wholeStringRegex() throws IOException {
+        final List<JavaChampion> javaChampions = new ArrayList<>();
+        final String             yaml          = Files.readString(this.fixture, UTF_8);
+        final Matcher            matcher       = Constants.YAML_NAME_REGEX.matcher("");
+        yaml.lines().forEach(line -> {
+            matcher.reset(line);
+            if (matcher.matches()) {
+                final String title = matcher.group(1) != null ? matcher.group(1) : "";
+                String firstName = matcher.group(2) != null ? matcher.group(2) : "";
+                if (matcher.group(3) != null) { firstName += " " + matcher.group(3); }
+                String lastName = "";
+                if (matcher.group(4) != null) { lastName += " " + matcher.group(4); }
+                if (matcher.group(5) != null) { lastName += " " + matcher.group(5); }
+                if (matcher.group(6) != null) { lastName += " " + matcher.group(6); }
+                if (matcher.group(7) != null) { lastName += " " + matcher.group(7); }
+                javaChampions.add(new JavaChampion(title.trim(), firstName.trim(), lastName.trim()));
+            }
+        });
+        return javaChampions;
+    }
+
+    @Benchmark public List<JavaChampion> streamingPrefiltered() throws IOException {
+        final List<JavaChampion> javaChampions = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(this.fixture, UTF_8)) {
+            Helper.parseJavaChampions(reader, javaChampions::add);
+        }
+        return javaChampions;
+    }
+
+
+    // ******************** Private Methods ***********************************
+    // Same structure as java-champions.yml, a list of members with a name followed by nested details and social links
+    private static String createYaml() {
+        final StringBuilder yaml = new StringBuilder("members:\n");
+        for (int i = 0 ; i < NO_OF_MEMBERS ; i++) {
+            final String firstName = FIRST_NAMES[i % FIRST_NAMES.length];
+            final String lastName  = LAST_NAMES[(i / FIRST_NAMES.length) % LAST_NAMES.length];
+            yaml.append("  - name: ").append(TITLES[i % TITLES.length]).append(firstName).append(' ').append(lastName).append('\n')
+                .append("    details:\n")
+                .append("      bio: ").append(firstName).append(" is a developer, speaker and author - name: of many books\n")
+                .append("      country: Germany\n")
+                .append("      year: ").append(2005 + i % 20).append('\n')
+                .append("      status: active\n")
+                .append("    social:\n")
+                .append("      twitter: https://twitter.com/").append(firstName.toLowerCase()).append('\n')
+                .append("      github: https://github.com/").append(lastName.toLowerCase()).append('\n')
+                .append("      linkedin: https://linkedin.com/in/").append(firstName.toLowerCase()).append(lastName.toLowerCase()).append('\n');
+        }
+        return yaml.toString();
+    }
+}
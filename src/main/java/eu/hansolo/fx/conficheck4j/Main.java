@@ -1,5 +1,6 @@
 package eu.hansolo.fx.conficheck4j;
 
+import eu.hansolo.fx.conficheck4j.data.ConferenceDiff;
 import eu.hansolo.fx.conficheck4j.data.ConferenceItem;
 import eu.hansolo.fx.conficheck4j.data.ConfiModel;
 import eu.hansolo.fx.conficheck4j.data.ProposalItem;
@@ -12,12 +13,12 @@ import eu.hansolo.fx.conficheck4j.tools.Constants.Filter;
 import eu.hansolo.fx.conficheck4j.tools.Constants.ProposalStatus;
 import eu.hansolo.fx.conficheck4j.tools.Factory;
 import eu.hansolo.fx.conficheck4j.tools.Helper;
-import eu.hansolo.fx.conficheck4j.tools.IsoCountries;
 import eu.hansolo.fx.conficheck4j.tools.JavaChampion;
-import eu.hansolo.fx.conficheck4j.tools.NetworkMonitor;
+import eu.hansolo.fx.conficheck4j.tools.JavaChampions;
 import eu.hansolo.fx.conficheck4j.tools.PersistentToggleGroup;
 import eu.hansolo.fx.conficheck4j.tools.PropertyManager;
 import eu.hansolo.fx.conficheck4j.views.CalendarView;
+import eu.hansolo.fx.conficheck4j.views.ConferenceListView;
 import eu.hansolo.fx.conficheck4j.views.ConferenceView;
 import eu.hansolo.fx.conficheck4j.views.ProposalView;
 import eu.hansolo.jdktools.versioning.VersionNumber;
@@ -31,6 +32,7 @@ import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.BooleanPropertyBase;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.ObjectPropertyBase;
+import javafx.collections.ObservableMap;
 import javafx.geometry.Insets;
 import javafx.geometry.Orientation;
 import javafx.geometry.Pos;
@@ -41,7 +43,6 @@ import javafx.scene.control.Label;
 import javafx.scene.control.ScrollPane;
 import javafx.scene.control.TextArea;
 import javafx.scene.control.TextField;
-import javafx.scene.control.TitledPane;
 import javafx.scene.control.ToggleButton;
 import javafx.scene.control.Tooltip;
 import javafx.scene.image.Image;
@@ -77,9 +78,15 @@ import java.time.format.DateTimeFormatter;
 import java.time.format.FormatStyle;
 import java.time.temporal.ChronoField;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.Set;
+import java.util.function.Predicate;
 
 import static eu.hansolo.toolbox.Constants.COMMA;
 import static eu.hansolo.toolbox.Constants.NEW_LINE;
@@ -97,7 +104,7 @@ public class Main extends Application {
     private              ToggleButton              speakingToggleButton  = Factory.createToggleButton(Filter.SPEAKING.getName(), Constants.STD_FONT_SIZE);
     private              ToggleButton              attendingToggleButton = Factory.createToggleButton(Filter.ATTENDING.getName(), Constants.STD_FONT_SIZE);
     private              ToggleButton              cfpOpenToggleButton   = Factory.createToggleButton(Filter.CFP_OPEN.getName(), Constants.STD_FONT_SIZE);
-    private              VBox                      conferencesVBox;
+    private              ConferenceListView        conferenceListView;
     private              CalendarView              calendarView;
     private              VBox                      vBox;
     private              StackPane                 pane;
@@ -159,15 +166,10 @@ public class Main extends Application {
         HBox filterButtons = new HBox(0, Factory.createSpacer(Orientation.HORIZONTAL), allToggleButton, speakingToggleButton, attendingToggleButton, cfpOpenToggleButton, Factory.createSpacer(Orientation.HORIZONTAL));
 
         // Conferences
-        conferencesVBox = new VBox(0);
-        conferencesVBox.setAlignment(Pos.CENTER);
-        conferencesVBox.setFillWidth(true);
-        ScrollPane scrollPane = new ScrollPane(conferencesVBox);
-        scrollPane.setHbarPolicy(ScrollPane.ScrollBarPolicy.NEVER);
-        scrollPane.setVbarPolicy(ScrollPane.ScrollBarPolicy.ALWAYS);
-        scrollPane.setMinWidth(ConferenceView.MINIMUM_WIDTH + 40);
-        scrollPane.setMinHeight(325);
-        scrollPane.setFitToWidth(true);
+        conferenceListView = new ConferenceListView(Main.this, this.model);
+        conferenceListView.setMinWidth(ConferenceView.MINIMUM_WIDTH + 40);
+        conferenceListView.setMinHeight(325);
+        VBox.setVgrow(conferenceListView, Priority.ALWAYS);
 
         calendarView = new CalendarView(Main.this, this.model);
         calendarView.setMinWidth(ConferenceView.MINIMUM_WIDTH + 40);
@@ -212,7 +214,7 @@ public class Main extends Application {
 
         HBox buttonBox = new HBox(5, speakerInfoButton, Factory.createSpacer(Orientation.HORIZONTAL), exportButton, Factory.createSpacer(Orientation.HORIZONTAL), proposalsButton);
 
-        vBox = new VBox(10, topHBox, filterButtons, scrollPane, calendarView, buttonBox);
+        vBox = new VBox(10, topHBox, filterButtons, conferenceListView, calendarView, buttonBox);
         vBox.setMinWidth(ConferenceView.MINIMUM_WIDTH + 40);
 
         this.pane = new StackPane(vBox, copiedFeedbackPane);
@@ -247,6 +249,12 @@ public class Main extends Application {
     }
 
     private void registerListeners() {
+        this.model.lastDiff.addListener((o, ov, nv) -> {
+            Platform.runLater(() -> {
+                applyDiff(nv);
+                if (!nv.updated().isEmpty()) { this.conferenceListView.refresh(); }
+            });
+        });
         this.model.update.addListener(o -> updateView());
         this.continentsComboBox.getSelectionModel().selectedItemProperty().addListener((o, ov, nv) -> this.selectedContinent.set(Constants.Continent.fromText(nv)));
         this.allToggleButton.selectedProperty().addListener((o, ov, nv) -> this.selectedFilter.set(Filter.ALL));
@@ -277,23 +285,86 @@ public class Main extends Application {
         stage.show();
         stage.centerOnScreen();
 
-        if (NetworkMonitor.INSTANCE.isOnline()) {
-            Constants.JAVA_CHAMPIONS.addAll(Helper.getJavaChampions());
-        }
+        // Uses the cached yaml file if it's fresh enough, otherwise it will be downloaded in the background
+        JavaChampions.INSTANCE.load();
 
         calendarView.setToInitialPosition();
         updateView();
     }
 
     @Override public void stop() {
+        this.model.flush();
         Platform.exit();
         System.exit(0);
     }
 
+    /**
+     * Applies the added and updated conferences of a refresh to the affected months only, so that the
+     * calendar and the list don't have to be rebuilt. Has to be called on the FX application thread.
+     */
+    private void applyDiff(final ConferenceDiff diff) {
+        if (diff.added().isEmpty() && diff.updated().isEmpty()) { return; }
+        final List<ConferenceItem> changed = new ArrayList<>(diff.added());
+        changed.addAll(diff.updated());
+        final Continent                 continent   = this.selectedContinent.get();
+        final Filter                    filter      = this.selectedFilter.get();
+        final Set<ConferenceItem>       openCfps    = Filter.CFP_OPEN == filter ? this.model.getConferencesWithOpenCfp() : Set.of();
+        final Predicate<ConferenceItem> inContinent = conference -> null != conference.getContinent() && (Continent.ALL == continent || continent == conference.getContinent());
+        final Predicate<ConferenceItem> inFilter    = conference -> switch (filter) {
+            case ALL       -> true;
+            case SPEAKING  -> conference.getAttendence() == AttendingStatus.SPEAKING;
+            case ATTENDING -> conference.getAttendence() == AttendingStatus.ATTENDING;
+            case CFP_OPEN  -> openCfps.contains(conference);
+        };
+        applyToMonths(this.model.conferencesPerMonth, changed, inContinent, month -> false);
+        applyToMonths(this.model.conferencesPerContinent, changed, inContinent, month -> false);
+        // With the cfp filter all months of the continent are shown, even if they don't contain a conference with an open cfp
+        applyToMonths(this.model.filteredConferences, changed, inContinent.and(inFilter), month -> Filter.CFP_OPEN == filter && this.model.conferencesPerContinent.containsKey(month));
+        this.conferenceListView.setConferences(this.model.filteredConferences);
+    }
+
+    /**
+     * Replaces only the months that contain one of the changed conferences before or after the change.
+     * Conferences that stay in their month keep their position.
+     */
+    private static void applyToMonths(final ObservableMap<Integer, List<ConferenceItem>> months, final List<ConferenceItem> changed, final Predicate<ConferenceItem> matches, final Predicate<Integer> keepEmpty) {
+        final Set<ConferenceItem>                changedSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        final Set<ConferenceItem>                placed     = Collections.newSetFromMap(new IdentityHashMap<>());
+        final Map<Integer, List<ConferenceItem>> touched    = new HashMap<>();
+        changedSet.addAll(changed);
+        months.forEach((month, conferencesInMonth) -> {
+            if (conferencesInMonth.stream().noneMatch(changedSet::contains)) { return; }
+            final List<ConferenceItem> conferences = new ArrayList<>(conferencesInMonth.size());
+            for (final ConferenceItem conference : conferencesInMonth) {
+                if (!changedSet.contains(conference)) {
+                    conferences.add(conference);
+                } else if (matches.test(conference) && month == getMonth(conference)) {
+                    conferences.add(conference);
+                    placed.add(conference);
+                }
+            }
+            touched.put(month, conferences);
+        });
+        for (final ConferenceItem conference : changed) {
+            if (placed.contains(conference) || !matches.test(conference)) { continue; }
+            touched.computeIfAbsent(getMonth(conference), month -> new ArrayList<>(months.getOrDefault(month, List.of()))).add(conference);
+        }
+        touched.forEach((month, conferences) -> {
+            if (conferences.isEmpty() && !keepEmpty.test(month)) {
+                months.remove(month);
+            } else {
+                months.put(month, conferences);
+            }
+        });
+    }
+
+    private static int getMonth(final ConferenceItem conference) {
+        return ZonedDateTime.ofInstant(conference.getDate(), ZoneId.systemDefault()).get(ChronoField.MONTH_OF_YEAR);
+    }
+
     private void updateView() {
         Platform.runLater(() -> {
-            List<String>         countriesInContinent   = Continent.ALL == this.selectedContinent.get() ? IsoCountries.ALL_COUNTRIES.stream().map(isoCountryInfo -> isoCountryInfo.name()).toList() : IsoCountries.ALL_COUNTRIES.stream().filter(country -> country.continent().equals(selectedContinent.get().code)).map(isoCountryInfo -> isoCountryInfo.name()).toList();
-            List<ConferenceItem> conferencesInContinent = this.model.conferences.stream().filter(conference -> countriesInContinent.contains(conference.getCountry())).toList();
+            List<ConferenceItem> conferencesInContinent = this.model.getConferencesInContinent(this.selectedContinent.get());
             this.model.conferencesPerMonth.clear();
             this.model.conferencesPerContinent.clear();
             conferencesInContinent.forEach(conference -> {
@@ -334,45 +405,30 @@ public class Main extends Application {
                     });
                 }
                 case CFP_OPEN  -> {
+                    this.model.filteredConferences.clear();
+                    final Set<ConferenceItem> conferencesWithOpenCfp = this.model.getConferencesWithOpenCfp();
                     for (Integer month : this.model.conferencesPerContinent.keySet()) {
                         if (this.model.conferencesPerContinent.get(month).isEmpty()) { continue; }
-                        this.model.filteredConferences.put(month, new ArrayList<>(this.model.conferencesPerContinent.get(month)
-                                                                                                                  .stream()
-                                                                                                                  .filter(conference -> conference.getCfpDate().isPresent())
-                                                                                                                  .filter(conference -> Helper.getDatesFromJavaConferenceDate(conference.getCfpDate().get()).length > 0 && Helper.getDatesFromJavaConferenceDate(conference.getCfpDate().get())[0].isPresent())
-                                                                                                                  .filter(conference -> Helper.isCfpOpen(ZonedDateTime.ofInstant(Helper.getDatesFromJavaConferenceDate(conference.getCfpDate().get())[0].get(), ZoneId.systemDefault()).toLocalDate()))
-                                                                                                                  .collect(Collectors.toSet())));
+                        this.model.filteredConferences.put(month, new ArrayList<>(this.model.conferencesPerContinent.get(month).stream().filter(conferencesWithOpenCfp::contains).toList()));
                     }
                 }
             }
 
-            final int currentMonth = LocalDate.now().getMonthValue();
-            List<TitledPane> filtered  = new ArrayList<>();
-            this.model.filteredConferences.entrySet().forEach(entry -> {
-                final Integer              month              = entry.getKey();
-                final List<ConferenceItem> conferencesInMonth = entry.getValue();
-                VBox monthBox = new VBox();
-                conferencesInMonth.forEach(conference -> monthBox.getChildren().add(new ConferenceView(Main.this, this.model, conference, this.model.allProposals)));
-                TitledPane monthPane = new TitledPane(Constants.MONTHS[month - 1] + " (" + conferencesInMonth.size() + ")", monthBox);
-                monthPane.setAnimated(false);
-                monthPane.setCollapsible(true);
+            final int          currentMonth   = LocalDate.now().getMonthValue();
+            final Set<Integer> expandedMonths = new HashSet<>();
+            this.model.filteredConferences.forEach((month, conferencesInMonth) -> {
                 switch (this.selectedFilter.get()) {
-                    case ALL                            -> monthPane.setExpanded(month == currentMonth);
-                    case SPEAKING, ATTENDING, CFP_OPEN  -> monthPane.setExpanded(!this.model.filteredConferences.get(month).isEmpty());
+                    case ALL                            -> { if (month == currentMonth) { expandedMonths.add(month); } }
+                    case SPEAKING, ATTENDING, CFP_OPEN  -> { if (!conferencesInMonth.isEmpty()) { expandedMonths.add(month); } }
                 }
-                filtered.add(monthPane);
             });
-            conferencesVBox.getChildren().setAll(filtered);
+            this.conferenceListView.setConferences(this.model.filteredConferences, expandedMonths);
         });
     }
 
     private void openSpeakerInfo() {
         SpeakerItem speakerItem    = Helper.loadSpeakerItem();
-        boolean     isJavaChampion = Constants.JAVA_CHAMPIONS.stream()
-                                                             .filter(champion -> champion.lastName().equalsIgnoreCase(speakerItem.getLastName()))
-                                                             .filter(champion -> champion.firstName().equalsIgnoreCase(speakerItem.getFirstName()))
-                                                             .filter(champion -> champion.title().equalsIgnoreCase(speakerItem.getTitle()))
-                                                             .findFirst().isPresent();
+        boolean     isJavaChampion = JavaChampions.INSTANCE.isJavaChampion(speakerItem.getTitle(), speakerItem.getFirstName(), speakerItem.getLastName());
 
         ImageView javaChampionImg = new ImageView(JC_IMG);
         javaChampionImg.setFitWidth(24);
@@ -673,7 +729,7 @@ public class Main extends Application {
         this.model.allProposals.forEach(proposal -> {
             ProposalView proposalView = new ProposalView(Main.this, copiedFeedbackPane, proposal, clipboard, clipboardContent);
             proposalView.getTrashIcon().setOnMousePressed(evt -> {
-                this.model.allProposals.remove(proposalView);
+                this.model.allProposals.remove(proposal);
                 proposalsVBox.getChildren().remove(proposalView);
             });
             proposalsVBox.getChildren().add(proposalView);
@@ -688,7 +744,7 @@ public class Main extends Application {
             this.model.allProposals.forEach(proposal -> {
                 ProposalView proposalView = new ProposalView(Main.this, copiedFeedbackPane, proposal, clipboard, clipboardContent);
                 proposalView.getTrashIcon().setOnMousePressed(evt -> {
-                    this.model.allProposals.remove(proposalView);
+                    this.model.allProposals.remove(proposal);
                     proposalsVBox.getChildren().remove(proposalView);
                 });
                 proposalsVBox.getChildren().add(proposalView);
@@ -0,0 +1,24 @@
+package eu.hansolo.fx.conficheck4j.data;
+
+import java.util.List;
+
+
+/**
+ * Result of reconciling a javaconferences.org feed snapshot with the local conference catalog.
+ * Conferences in removed are no longer part of the feed but are kept in the catalog so that
+ * the history and the user state (attendence, proposals) will not get lost.
+ */
+public record ConferenceDiff(List<ConferenceItem> added, List<ConferenceItem> updated, List<ConferenceItem> unchanged, List<ConferenceItem> removed) {
+    public static final ConferenceDiff EMPTY = new ConferenceDiff(List.of(), List.of(), List.of(), List.of());
+
+
+    public boolean hasChanges() { return !added.isEmpty() || !updated.isEmpty() || !removed.isEmpty(); }
+
+    @Override public String toString() {
+        return new StringBuilder().append("added: ").append(added.size())
+                                  .append(", updated: ").append(updated.size())
+                                  .append(", unchanged: ").append(unchanged.size())
+                                  .append(", removed: ").append(removed.size())
+                                  .toString();
+    }
+}
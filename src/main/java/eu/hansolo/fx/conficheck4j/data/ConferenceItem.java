@@ -5,7 +5,10 @@ import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import eu.hansolo.fx.conficheck4j.tools.Constants.AttendingStatus;
+import eu.hansolo.fx.conficheck4j.tools.Constants.Continent;
 import eu.hansolo.fx.conficheck4j.tools.Constants.ProposalStatus;
+import eu.hansolo.fx.conficheck4j.tools.DateRangeParser;
+import eu.hansolo.fx.conficheck4j.tools.IsoCountries;
 import eu.hansolo.toolbox.Constants;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.ObjectPropertyBase;
@@ -36,16 +39,19 @@ public class ConferenceItem implements Comparable<ConferenceItem> {
     public static final String                                      FIELD_ATTENDENCE      = "attendence";
     public static final String                                      FIELD_PROPOSALS       = "proposals";
     public static final String                                      FIELD_STATUS          = "status";
+    public static final long                                        NO_CFP_END_DATE       = Long.MIN_VALUE;
     private             String                                      name                  = "";
     private             String                                      location              = "";
     private             String                                      city                  = "";
     private             String                                      country               = "";
+    private             Continent                                   continent             = null;
     private             String                                      url                   = "";
     private             Instant                                     date                  = Instant.now();
     private             double                                      days                  = 0.0;
     private             String                                      type                  = "";
     private             Optional<String>                            cfpUrl                = Optional.empty();
     private             Optional<String>                            cfpDate               = Optional.empty();
+    private             long                                        cfpEndEpochDay        = NO_CFP_END_DATE;
     private             Optional<Double>                            lat                   = Optional.empty();
     private             Optional<Double>                            lon                   = Optional.empty();
     private             ObservableMap<ProposalItem, ProposalStatus> proposals             = FXCollections.observableHashMap();
@@ -57,21 +63,23 @@ public class ConferenceItem implements Comparable<ConferenceItem> {
 
 
     public ConferenceItem(final String name, final String location, final String city, final String country, final String url, final Instant date, final double days, final String type, final AttendingStatus attendence, final Optional<String> cfpUrl, final Optional<String> cfpDate, final Optional<Double> lat, final Optional<Double> lon, final Map<ProposalItem, ProposalStatus> proposals, final ConfiModel model) {
-        this.name       = name;
-        this.location   = location;
-        this.city       = city;
-        this.country    = country;
-        this.url        = url;
-        this.date       = date;
-        this.days       = days;
-        this.type       = type;
-        this.cfpUrl     = cfpUrl;
-        this.cfpDate    = cfpDate;
-        this.lat        = lat;
-        this.lon        = lon;
+        this.name           = name;
+        this.location       = location;
+        this.city           = city;
+        this.country        = country;
+        this.continent      = IsoCountries.getContinent(country);
+        this.url            = url;
+        this.date           = date;
+        this.days           = days;
+        this.type           = type;
+        this.cfpUrl         = cfpUrl;
+        this.cfpDate        = cfpDate;
+        this.cfpEndEpochDay = toCfpEndEpochDay(cfpDate);
+        this.lat            = lat;
+        this.lon            = lon;
         this.attendence.set(attendence);
         this.proposals.putAll(proposals);
-        this.model      = model;
+        this.model          = model;
     }
 
 
@@ -85,7 +93,16 @@ public class ConferenceItem implements Comparable<ConferenceItem> {
     public void setCity(final String city) { this.city = city; }
 
     public String getCountry() { return country; }
-    public void setCountry(final String country) { this.country = country; }
+    public void setCountry(final String country) {
+        this.country   = country;
+        this.continent = IsoCountries.getContinent(country);
+    }
+
+    /**
+     * Returns the continent that is resolved once when the country is set
+     * @return the continent of the country, Continent.ALL if the country has no continent or null if the country is unknown
+     */
+    public Continent getContinent() { return continent; }
 
     public String getUrl() { return url; }
     public void setUrl(final String url) { this.url = url; }
@@ -107,7 +124,18 @@ public class ConferenceItem implements Comparable<ConferenceItem> {
     public void setCfpUrl(final Optional<String> cfpUrl) { this.cfpUrl = cfpUrl; }
 
     public Optional<String> getCfpDate() { return cfpDate; }
-    public void setCfpDate(final Optional<String> cfpDate) { this.cfpDate = cfpDate; }
+    public void setCfpDate(final Optional<String> cfpDate) {
+        this.cfpDate        = cfpDate;
+        this.cfpEndEpochDay = toCfpEndEpochDay(cfpDate);
+    }
+
+    /**
+     * Returns the epoch day of the cfp end date which is parsed once when the cfp date is set
+     * @return the epoch day of the cfp end date or NO_CFP_END_DATE if there is no (valid) cfp date
+     */
+    public long getCfpEndEpochDay() { return cfpEndEpochDay; }
+    public boolean hasCfpEndDate() { return NO_CFP_END_DATE != cfpEndEpochDay; }
+    public boolean isCfpOpen(final long todayEpochDay) { return hasCfpEndDate() && todayEpochDay <= cfpEndEpochDay; }
 
     public Optional<Double> getLat() { return lat; }
     public void setLat(final Optional<Double> lat) { this.lat = lat; }
@@ -121,10 +149,16 @@ public class ConferenceItem implements Comparable<ConferenceItem> {
         this.proposals.put(proposal, status);
     }
     public final void removeProposal(final ProposalItem proposal) {
-        Optional<ProposalItem> optionalProposal = this.proposals.keySet().stream().filter(p -> p.getId().equals(proposal.getId())).findFirst();
-        if (optionalProposal.isPresent()) {
-            this.proposals.remove(optionalProposal.get());
-        }
+        // Proposals are identified by their id
+        this.proposals.remove(proposal);
+    }
+
+    /**
+     * Returns a copy of this conference that can be serialized on another thread
+     * @return a copy of this conference with a copy of its proposals
+     */
+    public ConferenceItem copy() {
+        return new ConferenceItem(this.name, this.location, this.city, this.country, this.url, this.date, this.days, this.type, this.attendence.get(), this.cfpUrl, this.cfpDate, this.lat, this.lon, new HashMap<>(this.proposals), model);
     }
 
     public String getId() {
@@ -194,7 +228,7 @@ public class ConferenceItem implements Comparable<ConferenceItem> {
                 final String     id                  = proposalStateObject.has(ProposalItem.FIELD_ID) ? proposalStateObject.get(ProposalItem.FIELD_ID).getAsString()            : null;
                 final ProposalStatus status          = proposalStateObject.has(FIELD_STATUS)          ? ProposalStatus.fromId(proposalStateObject.get(FIELD_STATUS).getAsInt()) : ProposalStatus.NOT_SUBMITTED;
                 if (null != id) {
-                    final ProposalItem proposalItem = model.allProposals.stream().filter(proposal -> proposal.getId().equals(id)).findFirst().orElse(null);
+                    final ProposalItem proposalItem = model.getProposal(id);
                     if (null != proposalItem) { proposals.put(proposalItem, status); }
                 }
             }
@@ -206,6 +240,12 @@ public class ConferenceItem implements Comparable<ConferenceItem> {
         }
     }
 
+    private static long toCfpEndEpochDay(final Optional<String> cfpDate) {
+        if (null == cfpDate || cfpDate.isEmpty()) { return NO_CFP_END_DATE; }
+        final long range = DateRangeParser.parse(cfpDate.get());
+        return DateRangeParser.isValid(range) ? DateRangeParser.startEpochDay(range) : NO_CFP_END_DATE;
+    }
+
     @Override public String toString() {
         return new StringBuilder(this.name).append(" -> ").append(this.proposals.size()).toString();
     }
@@ -0,0 +1,104 @@
+package eu.hansolo.fx.conficheck4j.data;
+
+import eu.hansolo.fx.conficheck4j.tools.DateRangeParser;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+
+/**
+ * Reconciles a javaconferences.org feed snapshot with the existing conference catalog.
+ * The catalog is indexed by name and url (the same identity ConferenceItem uses for hashCode)
+ * so that merging a snapshot takes linear time instead of scanning the catalog per feed entry.
+ */
+public final class ConferenceMerger {
+    private final List<ConferenceItem>     conferences;
+    private final Map<Key, ConferenceItem> index;
+
+
+    // ******************** Constructors **************************************
+    public ConferenceMerger(final Collection<ConferenceItem> conferences) {
+        this.conferences = new ArrayList<>(conferences);
+        this.index       = new HashMap<>(Math.max(16, (int) (conferences.size() / 0.75f) + 1));
+        this.conferences.forEach(conference -> this.index.putIfAbsent(new Key(conference.getName(), conference.getUrl()), conference));
+    }
+
+
+    // ******************** Methods *******************************************
+    /**
+     * Applies the given feed snapshot to the indexed conferences. Existing conferences will be updated
+     * in place, new ones will be created but NOT added to any list, that's up to the caller.
+     * @param javaConferences the conferences of the feed snapshot
+     * @param model the model that will be passed to newly created conference items
+     * @return the diff between the catalog and the feed snapshot
+     */
+    public ConferenceDiff merge(final List<JavaConference> javaConferences, final ConfiModel model) {
+        // An empty snapshot (e.g. the download failed) doesn't tell anything about the catalog
+        if (null == javaConferences || javaConferences.isEmpty()) { return new ConferenceDiff(List.of(), List.of(), List.copyOf(this.conferences), List.of()); }
+        final List<ConferenceItem> added   = new ArrayList<>();
+        final Set<ConferenceItem>  seen    = Collections.newSetFromMap(new IdentityHashMap<>());
+        final Set<ConferenceItem>  changed = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (final JavaConference javaConference : javaConferences) {
+            if (null == javaConference || null == javaConference.name()) { continue; }
+            final Key            key        = new Key(javaConference.name(), null == javaConference.link() ? "" : javaConference.link());
+            final ConferenceItem conference = this.index.get(key);
+            if (null == conference) {
+                final ConferenceItem newConference = javaConference.convertToConferenceItem(model);
+                this.index.put(key, newConference);
+                added.add(newConference);
+            } else {
+                seen.add(conference);
+                // If a conference is part of the feed more than once, the last entry wins
+                if (apply(javaConference, conference)) { changed.add(conference); }
+            }
+        }
+        final List<ConferenceItem> updated   = new ArrayList<>();
+        final List<ConferenceItem> unchanged = new ArrayList<>();
+        final List<ConferenceItem> removed   = new ArrayList<>();
+        for (final ConferenceItem conference : this.conferences) {
+            if (!seen.contains(conference)) {
+                removed.add(conference);
+            } else if (changed.contains(conference)) {
+                updated.add(conference);
+            } else {
+                unchanged.add(conference);
+            }
+        }
+        return new ConferenceDiff(added, updated, unchanged, removed);
+    }
+
+
+    // ******************** Private Methods ***********************************
+    private static boolean apply(final JavaConference javaConference, final ConferenceItem conference) {
+        final long             range   = DateRangeParser.parse(javaConference.date());
+        final Instant          date    = DateRangeParser.isValid(range) ? DateRangeParser.startInstant(range) : Instant.MIN;
+        final double           days    = DateRangeParser.isValid(range) ? DateRangeParser.days(range)         : 1;
+        final Optional<String> cfpUrl  = Optional.ofNullable(javaConference.cfpLink());
+        final Optional<String> cfpDate = Optional.ofNullable(javaConference.cfpEndDate());
+
+        boolean changed = false;
+        if (!isSame(cfpUrl, conference.getCfpUrl()))         { conference.setCfpUrl(cfpUrl);   changed = true; }
+        if (!isSame(cfpDate, conference.getCfpDate()))       { conference.setCfpDate(cfpDate); changed = true; }
+        if (!Objects.equals(date, conference.getDate()))     { conference.setDate(date);       changed = true; }
+        if (Double.compare(days, conference.getDays()) != 0) { conference.setDays(days);       changed = true; }
+        return changed;
+    }
+
+    // The local cache stores missing values as empty strings
+    private static boolean isSame(final Optional<String> feedValue, final Optional<String> value) {
+        return feedValue.orElse("").equals(null == value ? "" : value.orElse(""));
+    }
+
+
+    // ******************** Inner Classes *************************************
+    private record Key(String name, String url) { }
+}
@@ -0,0 +1,230 @@
+package eu.hansolo.fx.conficheck4j.data;
+
+import eu.hansolo.fx.conficheck4j.tools.Constants.AttendingStatus;
+import eu.hansolo.fx.conficheck4j.tools.Constants.ProposalStatus;
+import eu.hansolo.fx.conficheck4j.tools.Helper;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+
+
+/**
+ * Binary snapshot of the conference catalog that can be decoded a lot faster than the json file.
+ * <pre>
+ * Header          : magic (int), version (short), reserved (short), no of strings (int), no of conferences (int), no of proposal refs (int)
+ * String table    : per string the length in bytes (int) followed by the utf-8 bytes
+ * Conferences     : fixed width records of RECORD_SIZE bytes, strings are referenced by their index in the string table (-1 == empty)
+ * Proposal refs   : fixed width records of PROPOSAL_REF_SIZE bytes (proposal id as string index, status id)
+ * </pre>
+ * The json file stays the format for export/import, the snapshot will only be used if it is not older than the json file.
+ */
+public final class ConferenceSnapshot {
+    public  static final int    MAGIC             = 0x4343534E; // CCSN
+    public  static final short  VERSION           = 1;
+    private static final int    HEADER_SIZE       = 4 + 2 + 2 + 4 + 4 + 4;
+    private static final int    RECORD_SIZE       = 8 * 4 + 8 + 8 + 8 + 8 + 1 + 1 + 2 + 4 + 4;
+    private static final int    PROPOSAL_REF_SIZE = 4 + 1 + 3;
+    private static final int    NO_STRING         = -1;
+    private static final byte   HAS_LAT           = 0b01;
+    private static final byte   HAS_LON           = 0b10;
+
+
+    // ******************** Constructors **************************************
+    private ConferenceSnapshot() {}
+
+
+    // ******************** Methods *******************************************
+    /**
+     * @return true if the snapshot exists and was written after the json file (or the json file doesn't exist)
+     */
+    public static boolean isUpToDate(final Path snapshotPath, final Path jsonPath) {
+        try {
+            if (!Files.exists(snapshotPath)) { return false; }
+            if (!Files.exists(jsonPath))     { return true; }
+            return Files.getLastModifiedTime(snapshotPath).compareTo(Files.getLastModifiedTime(jsonPath)) >= 0;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Writes the given conferences to the snapshot file (via a temp file)
+     * @param path the path of the snapshot file
+     * @param conferences the conferences, should be a snapshot that won't be modified while writing
+     * @return true if the snapshot was written successfully
+     */
+    public static boolean write(final Path path, final List<ConferenceItem> conferences) {
+        final List<String>         strings      = new ArrayList<>();
+        final Map<String, Integer> stringIndex  = new HashMap<>();
+        final ByteArrayOutputStream recordBytes = new ByteArrayOutputStream(conferences.size() * RECORD_SIZE);
+        final ByteArrayOutputStream refBytes    = new ByteArrayOutputStream();
+        int noOfProposalRefs = 0;
+        try (DataOutputStream records = new DataOutputStream(recordBytes); DataOutputStream refs = new DataOutputStream(refBytes)) {
+            for (final ConferenceItem conference : conferences) {
+                records.writeInt(index(conference.getName(), strings, stringIndex));
+                records.writeInt(index(conference.getLocation(), strings, stringIndex));
+                records.writeInt(index(conference.getCity(), strings, stringIndex));
+                records.writeInt(index(conference.getCountry(), strings, stringIndex));
+                records.writeInt(index(conference.getUrl(), strings, stringIndex));
+                records.writeInt(index(conference.getType(), strings, stringIndex));
+                records.writeInt(index(conference.getCfpUrl().orElse(null), strings, stringIndex));
+                records.writeInt(index(conference.getCfpDate().orElse(null), strings, stringIndex));
+                records.writeLong(conference.getDate().getEpochSecond());
+                records.writeDouble(conference.getDays());
+                records.writeDouble(conference.getLat().orElse(0.0));
+                records.writeDouble(conference.getLon().orElse(0.0));
+                records.writeByte(conference.getAttendence().id);
+                records.writeByte((conference.getLat().isPresent() ? HAS_LAT : 0) | (conference.getLon().isPresent() ? HAS_LON : 0));
+                records.writeShort(0);
+                records.writeInt(noOfProposalRefs);
+                records.writeInt(conference.getProposals().size());
+                for (final Entry<ProposalItem, ProposalStatus> entry : conference.getProposals().entrySet()) {
+                    refs.writeInt(index(entry.getKey().getId(), strings, stringIndex));
+                    refs.writeByte(entry.getValue().id);
+                    refs.writeByte(0);
+                    refs.writeShort(0);
+                    noOfProposalRefs++;
+                }
+            }
+        } catch (IOException e) {
+            System.out.println("Error creating conference snapshot. " + e);
+            return false;
+        }
+
+        final Path tmpPath = path.resolveSibling(path.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmpPath)))) {
+            out.writeInt(MAGIC);
+            out.writeShort(VERSION);
+            out.writeShort(0);
+            out.writeInt(strings.size());
+            out.writeInt(conferences.size());
+            out.writeInt(noOfProposalRefs);
+            for (final String string : strings) {
+                final byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+                out.writeInt(bytes.length);
+                out.write(bytes);
+            }
+            recordBytes.writeTo((OutputStream) out);
+            refBytes.writeTo((OutputStream) out);
+        } catch (IOException e) {
+            System.out.println("Error writing conference snapshot " + path + ". " + e);
+            return false;
+        }
+        try {
+            Helper.moveAtomically(tmpPath, path);
+            return true;
+        } catch (IOException e) {
+            System.out.println("Error writing conference snapshot " + path + ". " + e);
+            return false;
+        }
+    }
+
+    /**
+     * Reads the conferences from the given snapshot file. The file is read into a heap buffer instead of being mapped,
+     * a mapping would stay alive until it's garbage collected and on Windows would block replacing the file in write().
+     * @param path the path of the snapshot file
+     * @param model the model that will be passed to the conference items
+     * @return the conferences or null if the snapshot doesn't exist or can't be read (e.g. different version)
+     */
+    public static List<ConferenceItem> read(final Path path, final ConfiModel model) {
+        if (!Files.exists(path)) { return null; }
+        try {
+            return decode(ByteBuffer.wrap(Files.readAllBytes(path)), model);
+        } catch (IOException | RuntimeException e) {
+            System.out.println("Error reading conference snapshot " + path + ". " + e);
+            return null;
+        }
+    }
+
+
+    // ******************** Private Methods ***********************************
+    private static int index(final String text, final List<String> strings, final Map<String, Integer> stringIndex) {
+        if (null == text || text.isEmpty()) { return NO_STRING; }
+        return stringIndex.computeIfAbsent(text, t -> {
+            strings.add(t);
+            return strings.size() - 1;
+        });
+    }
+
+    private static List<ConferenceItem> decode(final ByteBuffer buffer, final ConfiModel model) {
+        if (buffer.remaining() < HEADER_SIZE || buffer.getInt() != MAGIC || buffer.getShort() != VERSION) { return null; }
+        buffer.getShort();
+        final int noOfStrings      = buffer.getInt();
+        final int noOfConferences  = buffer.getInt();
+        final int noOfProposalRefs = buffer.getInt();
+        if (noOfStrings < 0 || noOfConferences < 0 || noOfProposalRefs < 0) { return null; }
+
+        final String[] strings = new String[noOfStrings];
+        byte[]         bytes   = new byte[256];
+        for (int i = 0 ; i < noOfStrings ; i++) {
+            final int length = buffer.getInt();
+            if (length > bytes.length) { bytes = new byte[length]; }
+            buffer.get(bytes, 0, length);
+            strings[i] = new String(bytes, 0, length, StandardCharsets.UTF_8);
+        }
+
+        final int recordsOffset = buffer.position();
+        final int refsOffset    = recordsOffset + noOfConferences * RECORD_SIZE;
+        if (buffer.limit() < refsOffset + noOfProposalRefs * PROPOSAL_REF_SIZE) { throw new BufferUnderflowException(); }
+
+        final List<ConferenceItem> conferences = new ArrayList<>(noOfConferences);
+        for (int i = 0 ; i < noOfConferences ; i++) {
+            final int     offset        = recordsOffset + i * RECORD_SIZE;
+            final String  name          = string(strings, buffer.getInt(offset));
+            final String  location      = string(strings, buffer.getInt(offset + 4));
+            final String  city          = string(strings, buffer.getInt(offset + 8));
+            final String  country       = string(strings, buffer.getInt(offset + 12));
+            final String  url           = string(strings, buffer.getInt(offset + 16));
+            final String  type          = string(strings, buffer.getInt(offset + 20));
+            final int     cfpUrlIndex   = buffer.getInt(offset + 24);
+            final int     cfpDateIndex  = buffer.getInt(offset + 28);
+            final Instant date          = Instant.ofEpochSecond(buffer.getLong(offset + 32));
+            final double  days          = buffer.getDouble(offset + 40);
+            final double  lat           = buffer.getDouble(offset + 48);
+            final double  lon           = buffer.getDouble(offset + 56);
+            final byte    attendence    = buffer.get(offset + 64);
+            final byte    flags         = buffer.get(offset + 65);
+            final int     proposalStart = buffer.getInt(offset + 68);
+            final int     proposalCount = buffer.getInt(offset + 72);
+
+            final Map<ProposalItem, ProposalStatus> proposals = new HashMap<>();
+            for (int p = proposalStart ; p < proposalStart + proposalCount ; p++) {
+                final int          refOffset = refsOffset + p * PROPOSAL_REF_SIZE;
+                final ProposalItem proposal  = model.getProposal(string(strings, buffer.getInt(refOffset)));
+                if (null != proposal) { proposals.put(proposal, ProposalStatus.fromId(buffer.get(refOffset + 4))); }
+            }
+
+            conferences.add(new ConferenceItem(name, location, city, country, url, date, days, type, attendingStatus(attendence),
+                                               cfpUrlIndex  == NO_STRING ? Optional.empty() : Optional.of(strings[cfpUrlIndex]),
+                                               cfpDateIndex == NO_STRING ? Optional.empty() : Optional.of(strings[cfpDateIndex]),
+                                               (flags & HAS_LAT) != 0 ? Optional.of(lat) : Optional.empty(),
+                                               (flags & HAS_LON) != 0 ? Optional.of(lon) : Optional.empty(),
+                                               proposals, model));
+        }
+        return conferences;
+    }
+
+    private static String string(final String[] strings, final int index) { return index == NO_STRING ? "" : strings[index]; }
+
+    private static AttendingStatus attendingStatus(final int id) {
+        for (final AttendingStatus status : AttendingStatus.values()) {
+            if (status.id == id) { return status; }
+        }
+        return AttendingStatus.NOT_ATTENDING;
+    }
+}
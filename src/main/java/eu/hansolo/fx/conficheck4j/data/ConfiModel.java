@@ -1,115 +1,318 @@
 package eu.hansolo.fx.conficheck4j.data;
 
+import com.google.gson.JsonParseException;
 import eu.hansolo.fx.conficheck4j.tools.Constants;
+import eu.hansolo.fx.conficheck4j.tools.Constants.Continent;
+import eu.hansolo.fx.conficheck4j.tools.Constants.LoadingStage;
 import eu.hansolo.fx.conficheck4j.tools.Constants.ProposalStatus;
 import eu.hansolo.fx.conficheck4j.tools.Helper;
+import eu.hansolo.fx.conficheck4j.tools.HttpCache;
 import eu.hansolo.fx.conficheck4j.tools.NetworkMonitor;
+import eu.hansolo.fx.conficheck4j.tools.PropertyManager;
+import eu.hansolo.fx.conficheck4j.tools.WriteBehindWriter;
+import javafx.application.Platform;
 import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
 import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.ReadOnlyProperty;
 import javafx.beans.property.SimpleBooleanProperty;
+import javafx.beans.property.SimpleObjectProperty;
 import javafx.collections.FXCollections;
 import javafx.collections.ListChangeListener;
 import javafx.collections.MapChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.ObservableMap;
 
-import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.charset.Charset;
-import java.time.Instant;
-import java.time.ZoneId;
-import java.time.ZonedDateTime;
-import java.time.temporal.ChronoField;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
 
 
 public class ConfiModel {
-    public final NetworkMonitor                                 networkMonitor          = NetworkMonitor.INSTANCE;
-    public final ObservableList<ConferenceItem>                 conferences             = FXCollections.observableArrayList();
-    public final ObservableMap<Integer, List<ConferenceItem>>   conferencesPerMonth     = FXCollections.observableHashMap();
-    public final ObservableMap<Integer, List<ConferenceItem>>   conferencesPerContinent = FXCollections.observableHashMap();
-    public final ObservableMap<Integer, List<ConferenceItem>>   filteredConferences     = FXCollections.observableHashMap();
-    public       BooleanProperty                                update                  = new SimpleBooleanProperty(false);
-    public       InvalidationListener                           attendenceListener      = _ -> Helper.saveConferenceItems(this.conferences);
-    public       MapChangeListener<ProposalItem,ProposalStatus> proposalListener        = _ -> Helper.saveConferenceItems(conferences);
-    public       ObservableList<ProposalItem>                   allProposals            = FXCollections.observableArrayList();
+    public  final NetworkMonitor                                                       networkMonitor          = NetworkMonitor.INSTANCE;
+    public  final ObservableList<ConferenceItem>                                       conferences             = FXCollections.observableArrayList();
+    public  final ObservableMap<Integer, List<ConferenceItem>>                         conferencesPerMonth     = FXCollections.observableHashMap();
+    public  final ObservableMap<Integer, List<ConferenceItem>>                         conferencesPerContinent = FXCollections.observableHashMap();
+    public  final ObservableMap<Integer, List<ConferenceItem>>                         filteredConferences     = FXCollections.observableHashMap();
+    public        BooleanProperty                                                      update                  = new SimpleBooleanProperty(false);
+    public  final ObjectProperty<ConferenceDiff>                                       lastDiff                = new SimpleObjectProperty<>(ConferenceDiff.EMPTY);
+    public        InvalidationListener                                                 attendenceListener      = o -> onAttendenceChanged(o);
+    public        ObservableList<ProposalItem>                                         allProposals            = FXCollections.observableArrayList();
+    private final ScheduledExecutorService                                             loader;
+    private final ScheduledExecutorService                                             persistence;
+    private final StateJournal                                                         journal;
+    private final WriteBehindWriter<List<ConferenceItem>>                              conferencesWriter;
+    private final Map<ConferenceItem, MapChangeListener<ProposalItem, ProposalStatus>> proposalListeners       = new IdentityHashMap<>();
+    private final Map<String, ProposalItem>                                            proposalsById           = new ConcurrentHashMap<>();
+    private final AtomicBoolean                                                        hasConferences          = new AtomicBoolean(false);
+    private final Map<LoadingStage, Duration>                                          loadingStageDurations   = new ConcurrentHashMap<>();
+    private final List<BiConsumer<LoadingStage, Duration>>                             loadingStageListeners   = new CopyOnWriteArrayList<>();
+    private       Set<ConferenceItem>                                                  cfpOpenIndex            = Set.of();
+    private       long                                                                 cfpOpenIndexDay         = ConferenceItem.NO_CFP_END_DATE;
+    private       Map<Continent, List<ConferenceItem>>                                 continentIndex          = null;
 
     public ConfiModel() {
+        this.loader = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "ConfiCheck-Loader");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // Journal and snapshots share one thread, written snapshots contain all journal entries that have been queued before
+        this.persistence       = WriteBehindWriter.createExecutorService("ConfiCheck-Persistence");
+        this.journal           = new StateJournal(Paths.get(Constants.HOME_FOLDER, Constants.APP_NAME, Constants.CONFERENCE_STATE_FILENAME), this.persistence);
+        this.conferencesWriter = new WriteBehindWriter<>(Paths.get(Constants.HOME_FOLDER, Constants.APP_NAME, Constants.CONFERENCE_ITEMS_FILENAME),
+                                                         () -> this.conferences.stream().map(ConferenceItem::copy).toList(),
+                                                         Helper::toConferenceItemsJson,
+                                                         Platform::runLater,
+                                                         PropertyManager.INSTANCE.getLong(PropertyManager.PROPERTY_SAVE_DELAY, Constants.WRITE_BEHIND_DELAY_IN_MS),
+                                                         this.persistence,
+                                                         snapshot -> {
+                                                             // The binary snapshot is written after the json, so it's only newer if both contain the same data
+                                                             if (!ConferenceSnapshot.write(Paths.get(Constants.HOME_FOLDER, Constants.APP_NAME, Constants.CONFERENCE_SNAPSHOT_FILENAME), snapshot)) {
+                                                                 System.out.println("Conference snapshot not updated, the json file will be used on the next start");
+                                                             }
+                                                             this.journal.truncate();
+                                                         });
+        registerListeners();
         this.allProposals.setAll(Helper.loadProposals());
         loadConferenceItems(ConfiModel.this);
-        registerListeners();
+        scheduleRefresh();
     }
 
 
     private void registerListeners() {
+        // Keep the proposal registry in sync with allProposals
+        allProposals.addListener((ListChangeListener<ProposalItem>) change -> {
+            while (change.next()) {
+                change.getRemoved().forEach(proposal -> proposalsById.remove(proposal.getId(), proposal));
+                change.getAddedSubList().forEach(proposal -> proposalsById.put(proposal.getId(), proposal));
+            }
+        });
         conferences.addListener((ListChangeListener<ConferenceItem>) change -> {
+            // Read by the loader thread
+            hasConferences.set(!conferences.isEmpty());
+            invalidateCfpOpenIndex();
+            invalidateContinentIndex();
             while (change.next()) {
+                change.getRemoved().forEach(conference -> {
+                    conference.attendenceProperty().removeListener(attendenceListener);
+                    final MapChangeListener<ProposalItem, ProposalStatus> proposalListener = proposalListeners.remove(conference);
+                    if (null != proposalListener) { conference.getProposals().removeListener(proposalListener); }
+                });
                 change.getAddedSubList().forEach(conference -> {
                     conference.attendenceProperty().addListener(attendenceListener);
+                    final MapChangeListener<ProposalItem, ProposalStatus> proposalListener = c -> onProposalsChanged(conference, c);
+                    proposalListeners.put(conference, proposalListener);
                     conference.getProposals().addListener(proposalListener);
                 });
-                change.getRemoved().forEach(conference -> {
-                    conference.attendenceProperty().removeListener(attendenceListener);
-                    conference.getProposals().removeListener(proposalListener);
-                });
             }
         });
     }
 
-    public void loadConferenceItems(final ConfiModel model) {
-        try {
-            final String jsonText = Helper.readTextFile(Constants.HOME_FOLDER + Constants.APP_NAME + File.separator + Constants.CONFERENCE_ITEMS_FILENAME, Charset.forName("UTF-8"));
-            final List<ConferenceItem> conferenceItems = Helper.parseConferenceItemsJson(jsonText, model);
-            conferenceItems.forEach(conference -> {
-                conference.attendenceProperty().addListener(attendenceListener);
-                conference.getProposals().addListener(proposalListener);
-            });
-            conferences.setAll(conferenceItems);
-        } catch (IOException e) { }
+    private void onAttendenceChanged(final Observable observable) {
+        if (observable instanceof ReadOnlyProperty<?> property && property.getBean() instanceof ConferenceItem conference) {
+            this.journal.recordAttendence(conference, conference.getAttendence());
+            compactJournalIfNeeded();
+        }
+    }
 
-        if (this.networkMonitor.isOnline()) {
-            final String               javaConferencesJsonText = Helper.getTextFromUrl(Constants.JAVA_CONFERENCES_JSON_URL);
-            final List<JavaConference> conferences             = Helper.parseJavaConferencesJson(javaConferencesJsonText);
-            this.update(conferences);
+    private void onProposalsChanged(final ConferenceItem conference, final MapChangeListener.Change<? extends ProposalItem, ? extends ProposalStatus> change) {
+        if (change.wasAdded()) {
+            this.journal.recordProposal(conference, change.getKey(), change.getValueAdded());
+        } else if (change.wasRemoved()) {
+            this.journal.recordProposalRemoved(conference, change.getKey());
         }
-        this.update.set(!this.update.get());
+        compactJournalIfNeeded();
+    }
+
+    // Writing a snapshot truncates the journal
+    private void compactJournalIfNeeded() {
+        if (this.journal.needsCompaction()) { this.conferencesWriter.markDirty(); }
     }
 
-    public final void update(final List<JavaConference> javaConferences) {
-        List<ConferenceItem> conferencesToAdd = new ArrayList<>();
-        javaConferences.forEach(javaConference -> {
-            Optional<ConferenceItem> optConference = this.conferences.stream()
-                                                                     .filter(conference -> conference.getName().equals(javaConference.name()))
-                                                                     .filter(conference -> conference.getUrl().equals(javaConference.link()))
-                                                                     .findFirst();
-            if (optConference.isPresent()) {
-                final Optional<Instant>[] dates   = Helper.getDatesFromJavaConferenceDate(javaConference.date());
-                final Instant             date    = dates[0].isPresent() ? dates[0].get() : Instant.MIN;
-                final Instant             endDate = dates[1].isPresent() ? dates[1].get() : date;
-                final double              days    = Helper.getDaysBetweenDates(date, endDate);
-                optConference.get().setUrl(javaConference.link());
-                optConference.get().setCfpUrl(Optional.of(javaConference.cfpLink()));
-                optConference.get().setCfpDate(Optional.of(javaConference.cfpEndDate()));
-                optConference.get().setDate(date);
-                optConference.get().setDays(days);
-            } else {
-                conferencesToAdd.add(javaConference.convertToConferenceItem(ConfiModel.this));
+    /**
+     * Loads the conferences in stages. The local cache will be read on the calling thread (only if no
+     * conferences are loaded yet) so that they can be shown right away. The remote feed will be fetched
+     * (conditionally, see HttpCache) and parsed on a background thread and the result will be merged on
+     * the FX application thread.
+     * @param model the model that will be passed to the conference items
+     */
+    public void loadConferenceItems(final ConfiModel model) {
+        if (this.conferences.isEmpty()) {
+            final long start = System.nanoTime();
+            final Path snapshotPath = Paths.get(Constants.HOME_FOLDER, Constants.APP_NAME, Constants.CONFERENCE_SNAPSHOT_FILENAME);
+            final Path jsonPath     = Paths.get(Constants.HOME_FOLDER, Constants.APP_NAME, Constants.CONFERENCE_ITEMS_FILENAME);
+            // Prefer the binary snapshot, the json file will be used if it's newer (e.g. imported) or if the snapshot can't be read
+            List<ConferenceItem> conferenceItems = ConferenceSnapshot.isUpToDate(snapshotPath, jsonPath) ? ConferenceSnapshot.read(snapshotPath, model) : null;
+            if (null == conferenceItems) {
+                conferenceItems = List.of();
+                try {
+                    final String jsonText = Helper.readTextFile(jsonPath.toString(), Charset.forName("UTF-8"));
+                    conferenceItems = Helper.parseConferenceItemsJson(jsonText, model);
+                } catch (IOException e) { }
             }
+            // Replay the user state changes that are not part of the snapshot yet and compact them in the background
+            if (this.journal.replay(conferenceItems, this::getProposal) > 0) { this.conferencesWriter.markDirty(); }
+            this.conferences.setAll(conferenceItems);
+            fireLoadingStage(LoadingStage.LOCAL_CACHE, start);
+            this.update.set(!this.update.get());
+        }
+
+        this.loader.execute(this::fetchFeed);
+    }
+
+    /**
+     * Fetches the remote feed, has to be called on the loader thread. An unchanged feed (a 304, a body
+     * with the same hash as the cached one or a failed request) means the catalog is up to date, so
+     * parsing and merging can be skipped.
+     * As long as the catalog is empty (e.g. the first fetch failed) the cached feed will be parsed in any case.
+     */
+    private void fetchFeed() {
+        if (!this.networkMonitor.isOnline()) { return; }
+        final long                 fetchStart      = System.nanoTime();
+        final HttpCache.Response   response        = HttpCache.INSTANCE.fetch(Constants.JAVA_CONFERENCES_JSON_URL);
+        fireLoadingStage(LoadingStage.REMOTE_FETCH, fetchStart);
+        if (null == response.body() || (!response.modified() && this.hasConferences.get())) { return; }
+        final long                 parseStart      = System.nanoTime();
+        final List<JavaConference> javaConferences = new ArrayList<>();
+        try (InputStream inputStream = Files.newInputStream(response.body())) {
+            Helper.parseJavaConferencesJson(inputStream, javaConferences::add);
+        } catch (IOException | JsonParseException e) {
+            System.out.println("Error reading java conferences from cache: " + e);
+            return;
+        }
+        fireLoadingStage(LoadingStage.PARSE, parseStart);
+        Platform.runLater(() -> {
+            final long mergeStart = System.nanoTime();
+            this.update(javaConferences);
+            fireLoadingStage(LoadingStage.MERGE, mergeStart);
         });
-        this.conferences.addAll(conferencesToAdd);
-        Helper.saveConferenceItems(this.conferences);
-        this.conferencesPerMonth.clear();
-        this.conferences.forEach(conference -> {
-            final ZonedDateTime date  = ZonedDateTime.ofInstant(conference.getDate(), ZoneId.systemDefault());
-            final Integer       month = date.get(ChronoField.MONTH_OF_YEAR);
-            if (!conferencesPerMonth.containsKey(month)) { conferencesPerMonth.put(month, new ArrayList<>()); }
-            conferencesPerMonth.get(month).add(conference);
-        });
-        this.conferencesPerContinent.clear();
-        this.filteredConferences.clear();
-        this.filteredConferences.putAll(conferencesPerMonth);
-        this.update.set(!this.update.get());
+    }
+
+    /**
+     * Refreshes the feed on the loader thread every PROPERTY_REFRESH seconds (default APP_REFRESH_INTERVAL),
+     * a value <= 0 disables the refresh
+     */
+    private void scheduleRefresh() {
+        final long intervalInSec = PropertyManager.INSTANCE.getLong(PropertyManager.PROPERTY_REFRESH, Constants.APP_REFRESH_INTERVAL);
+        if (intervalInSec <= 0) { return; }
+        this.loader.scheduleWithFixedDelay(() -> {
+            // An exception would cancel all following runs
+            try {
+                fetchFeed();
+            } catch (RuntimeException e) {
+                System.out.println("Error refreshing java conferences: " + e);
+            }
+        }, intervalInSec, intervalInSec, TimeUnit.SECONDS);
+    }
+
+    public final ConferenceDiff update(final List<JavaConference> javaConferences) {
+        final boolean        initialLoad = this.conferences.isEmpty();
+        final ConferenceDiff diff        = new ConferenceMerger(this.conferences).merge(javaConferences, ConfiModel.this);
+        // Removed conferences are kept in the catalog, so nothing has to be done if nothing was added or updated
+        if (!diff.added().isEmpty() || !diff.updated().isEmpty()) {
+            if (!diff.added().isEmpty()) { this.conferences.addAll(diff.added()); }
+            invalidateCfpOpenIndex();
+            invalidateContinentIndex();
+            this.conferencesWriter.markDirty();
+        }
+        // Views apply the diff to the affected months, only the initial load needs a full update
+        this.lastDiff.set(diff);
+        if (initialLoad && !diff.added().isEmpty()) { this.update.set(!this.update.get()); }
+        return diff;
+    }
+
+    /**
+     * Writes pending changes of the conferences right away, has to be called on the FX application thread
+     */
+    public void flush() { this.conferencesWriter.flush(); }
+
+    /**
+     * @param id the id of the proposal
+     * @return the proposal with the given id from allProposals or null if there is no such proposal
+     */
+    public ProposalItem getProposal(final String id) { return null == id ? null : this.proposalsById.get(id); }
+
+    /**
+     * Returns the conferences with an open cfp. The set will only be rebuilt if the day changed
+     * or if the conferences have been changed since the last call.
+     * @return the conferences with an open cfp as of today
+     */
+    public Set<ConferenceItem> getConferencesWithOpenCfp() {
+        final long today = LocalDate.now().toEpochDay();
+        if (today != this.cfpOpenIndexDay) {
+            final Set<ConferenceItem> openCfps = new HashSet<>();
+            this.conferences.forEach(conference -> { if (conference.isCfpOpen(today)) { openCfps.add(conference); } });
+            this.cfpOpenIndex    = Collections.unmodifiableSet(openCfps);
+            this.cfpOpenIndexDay = today;
+        }
+        return this.cfpOpenIndex;
+    }
+
+    private void invalidateCfpOpenIndex() { this.cfpOpenIndexDay = ConferenceItem.NO_CFP_END_DATE; }
+
+    /**
+     * Returns the conferences in the given continent. The buckets will only be rebuilt if the conferences
+     * have been changed since the last call.
+     * @param continent the continent, Continent.ALL returns all conferences in a known country
+     * @return an immutable list of the conferences in the given continent
+     */
+    public List<ConferenceItem> getConferencesInContinent(final Continent continent) {
+        if (null == this.continentIndex) {
+            final Map<Continent, List<ConferenceItem>> buckets = new EnumMap<>(Continent.class);
+            for (final Continent c : Continent.values()) { buckets.put(c, new ArrayList<>()); }
+            this.conferences.forEach(conference -> {
+                final Continent c = conference.getContinent();
+                if (null == c) { return; }
+                buckets.get(Continent.ALL).add(conference);
+                if (Continent.ALL != c) { buckets.get(c).add(conference); }
+            });
+            buckets.replaceAll((c, bucket) -> Collections.unmodifiableList(bucket));
+            this.continentIndex = buckets;
+        }
+        return this.continentIndex.get(null == continent ? Continent.ALL : continent);
+    }
+
+    private void invalidateContinentIndex() { this.continentIndex = null; }
+
+    /**
+     * Adds a listener that will be informed about the duration of each loading stage. Stages that are already
+     * finished will be reported right away. Listeners will be called on the thread that finished the stage.
+     * @param listener the listener that will be called with the stage and its duration
+     */
+    public void addLoadingStageListener(final BiConsumer<LoadingStage, Duration> listener) {
+        if (null == listener || this.loadingStageListeners.contains(listener)) { return; }
+        this.loadingStageListeners.add(listener);
+        this.loadingStageDurations.forEach(listener);
+    }
+    public void removeLoadingStageListener(final BiConsumer<LoadingStage, Duration> listener) { this.loadingStageListeners.remove(listener); }
+
+    public Duration getLoadingStageDuration(final LoadingStage stage) { return this.loadingStageDurations.getOrDefault(stage, Duration.ZERO); }
+
+    private void fireLoadingStage(final LoadingStage stage, final long startNanos) {
+        final Duration duration = Duration.ofNanos(System.nanoTime() - startNanos);
+        this.loadingStageDurations.put(stage, duration);
+        this.loadingStageListeners.forEach(listener -> listener.accept(stage, duration));
     }
 }
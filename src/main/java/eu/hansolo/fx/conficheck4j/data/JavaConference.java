@@ -3,6 +3,7 @@ package eu.hansolo.fx.conficheck4j.data;
 
 import eu.hansolo.fx.conficheck4j.tools.Constants.AttendingStatus;
 import eu.hansolo.fx.conficheck4j.tools.Constants.ConferenceType;
+import eu.hansolo.fx.conficheck4j.tools.DateRangeParser;
 import eu.hansolo.fx.conficheck4j.tools.Helper;
 
 import java.time.Instant;
@@ -25,10 +26,9 @@ public record JavaConference(String cfpEndDate, Coordinates coordinates, String
         } else {
             type = ConferenceType.IN_PERSON;
         }
-        final Optional<Instant>[] dates      = Helper.getDatesFromJavaConferenceDate(this.date);
-        final Instant             date       = dates[0].isPresent() ? dates[0].get() : Instant.MIN;
-        final Instant             endDate    = dates[1].isPresent() ? dates[1].get() : date;
-        final double              days       = Helper.getDaysBetweenDates(date, endDate);
+        final long                range      = DateRangeParser.parse(this.date);
+        final Instant             date       = DateRangeParser.isValid(range) ? DateRangeParser.startInstant(range) : Instant.MIN;
+        final double              days       = DateRangeParser.isValid(range) ? DateRangeParser.days(range)         : 1;
         final String              city       = ConferenceType.VIRTUAL == type ? "ONLINE"         : cityName;
         final String              country    = ConferenceType.VIRTUAL == type ? ""               : countryName;
         final String              url        = this.link              == null ? ""               : this.link;
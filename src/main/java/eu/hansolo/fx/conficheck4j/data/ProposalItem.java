@@ -85,6 +85,6 @@ public class ProposalItem {
         return Objects.equals(getId(), that.getId());
     }
     @Override public int hashCode() {
-        return Objects.hash(title, abstrakt);
+        return Objects.hashCode(id);
     }
 }
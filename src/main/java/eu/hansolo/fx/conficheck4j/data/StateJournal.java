@@ -0,0 +1,163 @@
+package eu.hansolo.fx.conficheck4j.data;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import eu.hansolo.fx.conficheck4j.tools.Constants.AttendingStatus;
+import eu.hansolo.fx.conficheck4j.tools.Constants.ProposalStatus;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+
+/**
+ * Append-only journal of the user owned state of the conferences (attendence and proposals).
+ * Each change will be appended as one json line, so the cost of a change doesn't depend on the
+ * number of conferences. The journal will be replayed over the conference snapshot on load and
+ * can be truncated as soon as a snapshot that contains all journaled changes has been written.
+ * All file operations run on the given executor, which should be the one that writes the snapshot
+ * so that truncating the journal can't overtake entries that are not part of the snapshot yet.
+ */
+public final class StateJournal {
+    public  static final int           COMPACTION_THRESHOLD = 100;
+    private static final String        FIELD_OP             = "op";
+    private static final String        FIELD_CONFERENCE     = "conference";
+    private static final String        FIELD_PROPOSAL       = "proposal";
+    private static final String        FIELD_VALUE          = "value";
+    private static final String        OP_ATTENDENCE        = "attendence";
+    private static final String        OP_PROPOSAL          = "proposal";
+    private static final String        OP_PROPOSAL_REMOVED  = "proposal_removed";
+    private        final Path          path;
+    private        final Executor      executor;
+    private        final Gson          gson;
+    private        final AtomicInteger entryCount;
+
+
+    // ******************** Constructors **************************************
+    public StateJournal(final Path path, final Executor executor) {
+        this.path       = path;
+        this.executor   = executor;
+        this.gson       = new Gson();
+        this.entryCount = new AtomicInteger(0);
+    }
+
+
+    // ******************** Methods *******************************************
+    public void recordAttendence(final ConferenceItem conference, final AttendingStatus attendence) {
+        final JsonObject entry = createEntry(OP_ATTENDENCE, conference);
+        entry.addProperty(FIELD_VALUE, attendence.apiString);
+        append(entry);
+    }
+
+    public void recordProposal(final ConferenceItem conference, final ProposalItem proposal, final ProposalStatus status) {
+        final JsonObject entry = createEntry(OP_PROPOSAL, conference);
+        entry.addProperty(FIELD_PROPOSAL, proposal.getId());
+        entry.addProperty(FIELD_VALUE, status.id);
+        append(entry);
+    }
+
+    public void recordProposalRemoved(final ConferenceItem conference, final ProposalItem proposal) {
+        final JsonObject entry = createEntry(OP_PROPOSAL_REMOVED, conference);
+        entry.addProperty(FIELD_PROPOSAL, proposal.getId());
+        append(entry);
+    }
+
+    /**
+     * @return the number of entries since the journal has been truncated the last time
+     */
+    public int getEntryCount() { return this.entryCount.get(); }
+
+    public boolean needsCompaction() { return this.entryCount.get() >= COMPACTION_THRESHOLD; }
+
+    /**
+     * Applies the journaled changes to the given conferences. Has to be called before the conferences
+     * are observed, otherwise the replayed changes would be journaled again. Entries that can't be
+     * read (e.g. a partly written last line) will be skipped.
+     * @param conferences the conferences of the snapshot
+     * @param proposals resolves the id of a proposal to the proposal (or null if unknown)
+     * @return the number of entries that have been replayed
+     */
+    public int replay(final List<ConferenceItem> conferences, final Function<String, ProposalItem> proposals) {
+        if (!Files.exists(this.path)) { return 0; }
+        final Map<String, ConferenceItem> conferencesById = new HashMap<>(conferences.size() * 2);
+        conferences.forEach(conference -> conferencesById.put(conference.getId(), conference));
+
+        int entries = 0;
+        try (BufferedReader reader = Files.newBufferedReader(this.path, StandardCharsets.UTF_8)) {
+            String line;
+            while (null != (line = reader.readLine())) {
+                if (line.isBlank()) { continue; }
+                entries++;
+                try {
+                    final JsonObject     entry      = this.gson.fromJson(line, JsonObject.class);
+                    final ConferenceItem conference = conferencesById.get(entry.get(FIELD_CONFERENCE).getAsString());
+                    if (null == conference) { continue; }
+                    switch (entry.get(FIELD_OP).getAsString()) {
+                        case OP_ATTENDENCE       -> conference.setAttendence(AttendingStatus.fromText(entry.get(FIELD_VALUE).getAsString()));
+                        case OP_PROPOSAL         -> {
+                            final ProposalItem proposal = proposals.apply(entry.get(FIELD_PROPOSAL).getAsString());
+                            if (null != proposal) { conference.getProposals().put(proposal, ProposalStatus.fromId(entry.get(FIELD_VALUE).getAsInt())); }
+                        }
+                        case OP_PROPOSAL_REMOVED -> {
+                            final ProposalItem proposal = proposals.apply(entry.get(FIELD_PROPOSAL).getAsString());
+                            if (null != proposal) { conference.getProposals().remove(proposal); }
+                        }
+                        default                  -> { }
+                    }
+                } catch (JsonParseException | NullPointerException | IllegalStateException e) {
+                    System.out.println("Skipping invalid journal entry: " + line);
+                }
+            }
+        } catch (IOException e) {
+            System.out.println("Error reading journal " + this.path + ". " + e);
+        }
+        this.entryCount.set(entries);
+        return entries;
+    }
+
+    /**
+     * Removes all entries from the journal, has to be called on the executor of the journal
+     * right after a snapshot that contains all journaled changes has been written.
+     */
+    public void truncate() {
+        try {
+            Files.deleteIfExists(this.path);
+            this.entryCount.set(0);
+        } catch (IOException e) {
+            System.out.println("Error truncating journal " + this.path + ". " + e);
+        }
+    }
+
+
+    // ******************** Private Methods ***********************************
+    private JsonObject createEntry(final String op, final ConferenceItem conference) {
+        final JsonObject entry = new JsonObject();
+        entry.addProperty(FIELD_OP, op);
+        entry.addProperty(FIELD_CONFERENCE, conference.getId());
+        return entry;
+    }
+
+    private void append(final JsonObject entry) {
+        // Serialize on the calling thread, the entry only contains immutable values
+        final String line = this.gson.toJson(entry) + System.lineSeparator();
+        this.entryCount.incrementAndGet();
+        this.executor.execute(() -> {
+            try {
+                Files.createDirectories(this.path.getParent());
+                Files.writeString(this.path, line, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            } catch (IOException e) {
+                System.out.println("Error writing journal " + this.path + ". " + e);
+            }
+        });
+    }
+}
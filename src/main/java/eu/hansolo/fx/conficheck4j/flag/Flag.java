@@ -2,10 +2,15 @@ package eu.hansolo.fx.conficheck4j.flag;
 
 import eu.hansolo.fx.conficheck4j.tools.IsoCountries;
 import eu.hansolo.fx.conficheck4j.tools.IsoCountryInfo;
+import javafx.geometry.Rectangle2D;
 import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
 
-import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 
 
 public enum Flag {
@@ -273,9 +278,12 @@ public enum Flag {
     NOT_FOUND("--", "---", "999-not-found.png");
 
 
-    private final String imageFileName;
-    private final String iso2;
-    private final String iso3;
+    private static final List<Flag>        FLAGS   = List.of(values());
+    private static final Map<String, Flag> BY_ISO2 = index(true);
+    private static final Map<String, Flag> BY_ISO3 = index(false);
+    private        final String            imageFileName;
+    private        final String            iso2;
+    private        final String            iso3;
 
 
     // ******************** Constructors **************************************
@@ -293,24 +301,69 @@ public enum Flag {
         return getImage(30);
     }
     public final Image getImage(final double size) {
-        return new Image(Flag.class.getResourceAsStream(imageFileName), size, size, true, false);
+        return FlagImageCache.INSTANCE.get(this, size);
+    }
+
+    /**
+     * Shows this flag in the given image view. The flag will be rendered via a viewport on the shared
+     * flag atlas if available, otherwise the single image of the flag will be used.
+     * @param imageView the image view that should show the flag
+     * @param size the width and height of the flag in the image view
+     */
+    public final void applyTo(final ImageView imageView, final double size) {
+        final Rectangle2D viewport = FlagAtlas.INSTANCE.getViewport(this);
+        if (null == viewport) {
+            imageView.setViewport(null);
+            imageView.setImage(getImage(size));
+        } else {
+            imageView.setImage(FlagAtlas.INSTANCE.getImage());
+            imageView.setViewport(viewport);
+        }
+        imageView.setPreserveRatio(true);
+        imageView.setSmooth(true);
+        imageView.setFitWidth(size);
+        imageView.setFitHeight(size);
     }
 
     public final String getIso2() { return iso2; }
 
     public final String getIso3() { return iso3; }
 
-    public static final Flag iso2(final String iso2) {
-        return Arrays.asList(values()).stream().filter(flag -> !flag.iso2.isEmpty()).filter(flag -> flag.iso2.equals(iso2)).findFirst().orElse(NOT_FOUND);
-    }
+    /**
+     * @param iso2 the ISO 3166 alpha-2 code (case is ignored)
+     * @return the flag with the given code or NOT_FOUND
+     */
+    public static final Flag iso2(final String iso2) { return lookup(BY_ISO2, iso2); }
 
-    public static final Flag iso3(final String iso3) {
-        return Arrays.asList(values()).stream().filter(flag -> !flag.iso3.isEmpty()).filter(flag -> flag.iso3.equals(iso3)).findFirst().orElse(NOT_FOUND);
-    }
+    /**
+     * @param iso3 the ISO 3166 alpha-3 code (case is ignored)
+     * @return the flag with the given code or NOT_FOUND
+     */
+    public static final Flag iso3(final String iso3) { return lookup(BY_ISO3, iso3); }
 
     public IsoCountryInfo getCountry() {
-        return IsoCountries.ALL_COUNTRIES.parallelStream().filter(country -> country.name().equals(getIso2())).findFirst().orElse(null);
+        return iso2.isEmpty() ? null : IsoCountries.getByAlpha2(iso2);
     }
 
-    public static final List<Flag> getAsList() { return Arrays.asList(values()); }
+    public static final List<Flag> getAsList() { return FLAGS; }
+
+
+    // ******************** Private Methods ***********************************
+    private static Flag lookup(final Map<String, Flag> index, final String code) {
+        if (null == code) { return NOT_FOUND; }
+        final Flag flag = index.get(code);
+        return null != flag ? flag : index.getOrDefault(code.toUpperCase(Locale.ROOT), NOT_FOUND);
+    }
+
+    // Contains each code as given and upper cased, the first flag with a code wins, flags without a code can only be accessed directly
+    private static Map<String, Flag> index(final boolean iso2) {
+        final Map<String, Flag> index = new HashMap<>();
+        for (final Flag flag : values()) {
+            final String code = iso2 ? flag.iso2 : flag.iso3;
+            if (code.isEmpty()) { continue; }
+            index.putIfAbsent(code, flag);
+            index.putIfAbsent(code.toUpperCase(Locale.ROOT), flag);
+        }
+        return Collections.unmodifiableMap(index);
+    }
 }
@@ -0,0 +1,83 @@
+package eu.hansolo.fx.conficheck4j.flag;
+
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.Image;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+
+/**
+ * Sprite atlas that contains all flag images in one single image. The atlas and its index
+ * (flags-atlas.png and flags-atlas.properties) will be created by the createFlagAtlas gradle task.
+ * Flags will be rendered by using a viewport on the shared atlas image, so only one image has to be
+ * loaded and uploaded to the graphics card no matter how many flags are visible. If the atlas is not
+ * available (e.g. when started without running the gradle task) the flags fall back to their single images.
+ */
+public enum FlagAtlas {
+    INSTANCE;
+
+    public  static final String               ATLAS_IMAGE_FILENAME = "flags-atlas.png";
+    public  static final String               ATLAS_INDEX_FILENAME = "flags-atlas.properties";
+    private static final String               PROPERTY_CELL_SIZE   = "cell_size";
+    private static final String               PROPERTY_COLUMNS     = "columns";
+    private        final Map<String, Integer> index;
+    private              int                  cellSize;
+    private              int                  columns;
+    private              Image                image;
+
+
+    // ******************** Constructors **************************************
+    FlagAtlas() {
+        this.index = new HashMap<>();
+        try (InputStream inputStream = FlagAtlas.class.getResourceAsStream(ATLAS_INDEX_FILENAME)) {
+            if (null == inputStream) { return; }
+            final Properties properties = new Properties();
+            properties.load(inputStream);
+            this.cellSize = Integer.parseInt(properties.getProperty(PROPERTY_CELL_SIZE, "0"));
+            this.columns  = Integer.parseInt(properties.getProperty(PROPERTY_COLUMNS, "0"));
+            properties.stringPropertyNames().forEach(key -> {
+                if (!key.equals(PROPERTY_CELL_SIZE) && !key.equals(PROPERTY_COLUMNS)) { this.index.put(key, Integer.parseInt(properties.getProperty(key))); }
+            });
+        } catch (IOException | NumberFormatException e) {
+            System.out.println("Error loading flag atlas index. " + e);
+            this.index.clear();
+        }
+    }
+
+
+    // ******************** Methods *******************************************
+    /**
+     * @return the shared atlas image (will be loaded on first access) or null if the atlas is not available
+     */
+    public synchronized Image getImage() {
+        if (null == this.image && !this.index.isEmpty() && this.cellSize > 0 && this.columns > 0) {
+            final InputStream inputStream = FlagAtlas.class.getResourceAsStream(ATLAS_IMAGE_FILENAME);
+            if (null == inputStream) {
+                this.index.clear();
+            } else {
+                this.image = new Image(inputStream);
+                if (this.image.isError()) {
+                    System.out.println("Error loading flag atlas. " + this.image.getException());
+                    this.image = null;
+                    this.index.clear();
+                }
+            }
+        }
+        return this.image;
+    }
+
+    /**
+     * @param flag the flag
+     * @return the viewport of the given flag in the atlas image or null if the flag is not part of the atlas
+     */
+    public Rectangle2D getViewport(final Flag flag) {
+        if (null == getImage()) { return null; }
+        final Integer cell = this.index.get(flag.getImageFileName());
+        if (null == cell) { return null; }
+        return new Rectangle2D((cell % this.columns) * this.cellSize, (cell / this.columns) * this.cellSize, this.cellSize, this.cellSize);
+    }
+}
@@ -46,7 +46,8 @@ public class FlagIcon extends Region {
                 setPrefSize(PREFERRED_WIDTH, PREFERRED_HEIGHT);
             }
         }
-        imageView = new ImageView(flag.getImage(flagSize));
+        imageView = new ImageView();
+        flag.applyTo(imageView, flagSize);
         getChildren().setAll(imageView);
     }
 
@@ -89,8 +90,6 @@ public class FlagIcon extends Region {
         size   = width < height ? width : height;
 
         if (width > 0 && height > 0) {
-            imageView.setFitWidth(size);
-            imageView.setFitHeight(size);
             imageView.relocate((getWidth() - size) * 0.5, (getHeight() - size) * 0.5);
 
             redraw();
@@ -99,6 +98,6 @@ public class FlagIcon extends Region {
 
     private void redraw() {
         if (null == flag) { return; }
-        imageView.setImage(flag.getImage(flagSize));
+        flag.applyTo(imageView, size > 0 ? size : flagSize);
     }
 }
@@ -0,0 +1,65 @@
+package eu.hansolo.fx.conficheck4j.flag;
+
+import eu.hansolo.fx.conficheck4j.tools.PropertyManager;
+import javafx.scene.image.Image;
+
+import java.lang.ref.SoftReference;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+
+/**
+ * Process wide cache for the decoded flag images. Each flag will be decoded once per requested size,
+ * the least recently used images will be dropped if the cache exceeds its maximum number of entries.
+ * If soft references are enabled (see PropertyManager.PROPERTY_SOFT_FLAGS) the images can additionally
+ * be reclaimed by the garbage collector when memory gets low and will be decoded again on demand.
+ */
+public enum FlagImageCache {
+    INSTANCE;
+
+    public  static final int             DEFAULT_MAX_ENTRIES = 512;
+    private        final int             maxEntries;
+    private        final boolean         softReferences;
+    private        final Map<Key, Entry> cache;
+
+
+    // ******************** Constructors **************************************
+    FlagImageCache() {
+        this.maxEntries     = Math.max(1, PropertyManager.INSTANCE.getInt(PropertyManager.PROPERTY_FLAG_CACHE, DEFAULT_MAX_ENTRIES));
+        this.softReferences = PropertyManager.INSTANCE.getBoolean(PropertyManager.PROPERTY_SOFT_FLAGS, false);
+        this.cache          = new LinkedHashMap<>(64, 0.75f, true) {
+            @Override protected boolean removeEldestEntry(final Map.Entry<Key, Entry> eldest) { return size() > maxEntries; }
+        };
+    }
+
+
+    // ******************** Methods *******************************************
+    /**
+     * Returns the image of the given flag in the given size, the image will only be decoded if it's not cached yet
+     * @param flag the flag
+     * @param size the requested width and height of the image
+     * @return the image of the flag
+     */
+    public synchronized Image get(final Flag flag, final double size) {
+        final Key   key   = new Key(flag, size);
+        final Entry entry = this.cache.get(key);
+        Image image = null == entry ? null : entry.get();
+        if (null == image) {
+            image = new Image(Flag.class.getResourceAsStream(flag.getImageFileName()), size, size, true, false);
+            this.cache.put(key, this.softReferences ? new Entry(null, new SoftReference<>(image)) : new Entry(image, null));
+        }
+        return image;
+    }
+
+    public synchronized int size() { return this.cache.size(); }
+
+    public synchronized void clear() { this.cache.clear(); }
+
+
+    // ******************** Inner Classes *************************************
+    private record Key(Flag flag, double size) { }
+
+    private record Entry(Image image, SoftReference<Image> softImage) {
+        Image get() { return null != image ? image : softImage.get(); }
+    }
+}
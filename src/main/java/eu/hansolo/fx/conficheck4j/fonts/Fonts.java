@@ -7,53 +7,21 @@ import com.itextpdf.kernel.font.PdfFontFactory;
 import javafx.scene.text.Font;
 
 import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 
 public class Fonts {
-    private static final String AVENIR_NEXT_LT_PRO_HEAVY_NAME;
-    private static final String AVENIR_NEXT_LT_PRO_BOLD_NAME;
-    private static final String AVENIR_NEXT_LT_PRO_DEMI_NAME;
-    private static final String AVENIR_NEXT_LT_PRO_MEDIUM_NAME;
-    private static final String AVENIR_NEXT_LT_PRO_REGULAR_NAME;
-    private static final String AVENIR_NEXT_LT_PRO_LIGHT_NAME;
-    private static final String NOTO_SANS_MONO_NAME;
-
-    private static String avenirNextLtProHeavyName;
-    private static String avenirNextLtProBoldName;
-    private static String avenirNextLtProDemiName;
-    private static String avenirNextLtProMediumName;
-    private static String avenirNextLtProRegularName;
-    private static String avenirNextLtProLightName;
-    private static String notoSansMonoName;
-
-    static {
-        try {
-            avenirNextLtProHeavyName   = Font.loadFont(Fonts.class.getResourceAsStream("/eu/hansolo/fx/conficheck4j/fonts/AvenirNextLTPro-Heavy.ttf"), 10).getName();
-            avenirNextLtProBoldName    = Font.loadFont(Fonts.class.getResourceAsStream("/eu/hansolo/fx/conficheck4j/fonts/AvenirNextLTPro-Bold.ttf"), 10).getName();
-            avenirNextLtProDemiName    = Font.loadFont(Fonts.class.getResourceAsStream("/eu/hansolo/fx/conficheck4j/fonts/AvenirNextLTPro-Demi.ttf"), 10).getName();
-            avenirNextLtProMediumName  = Font.loadFont(Fonts.class.getResourceAsStream("/eu/hansolo/fx/conficheck4j/fonts/AvenirNextLTPro-Medium.ttf"), 10).getName();
-            avenirNextLtProRegularName = Font.loadFont(Fonts.class.getResourceAsStream("/eu/hansolo/fx/conficheck4j/fonts/AvenirNextLTPro-Regular.ttf"), 10).getName();
-            avenirNextLtProLightName   = Font.loadFont(Fonts.class.getResourceAsStream("/eu/hansolo/fx/conficheck4j/fonts/AvenirNextLTPro-UltLt.ttf"), 10).getName();
-            notoSansMonoName           = Font.loadFont(Fonts.class.getResourceAsStream("/eu/hansolo/fx/conficheck4j/fonts/NotoSansMono-Regular.ttf"), 10).getName();
-        } catch (Exception exception) { }
-        AVENIR_NEXT_LT_PRO_HEAVY_NAME   = avenirNextLtProHeavyName;
-        AVENIR_NEXT_LT_PRO_BOLD_NAME    = avenirNextLtProBoldName;
-        AVENIR_NEXT_LT_PRO_DEMI_NAME    = avenirNextLtProDemiName;
-        AVENIR_NEXT_LT_PRO_MEDIUM_NAME  = avenirNextLtProMediumName;
-        AVENIR_NEXT_LT_PRO_REGULAR_NAME = avenirNextLtProRegularName;
-        AVENIR_NEXT_LT_PRO_LIGHT_NAME   = avenirNextLtProLightName;
-        NOTO_SANS_MONO_NAME             = notoSansMonoName;
-    }
-
 
     // ******************** Methods *******************************************
-    public static Font avenirNextLtProHeavy(final double size) { return new Font(AVENIR_NEXT_LT_PRO_HEAVY_NAME, size); }
-    public static Font avenirNextLtProBold(final double size) { return new Font(AVENIR_NEXT_LT_PRO_BOLD_NAME, size); }
-    public static Font avenirNextLtProDemi(final double size) { return new Font(AVENIR_NEXT_LT_PRO_DEMI_NAME, size); }
-    public static Font avenirNextLtProMedium(final double size) { return new Font(AVENIR_NEXT_LT_PRO_MEDIUM_NAME, size); }
-    public static Font avenirNextLtProRegular(final double size) { return new Font(AVENIR_NEXT_LT_PRO_REGULAR_NAME, size); }
-    public static Font avenirNextLtProLight(final double size) { return new Font(AVENIR_NEXT_LT_PRO_LIGHT_NAME, size); }
-    public static Font notoSansMono(final double size) { return new Font(NOTO_SANS_MONO_NAME, size); }
+    public static Font avenirNextLtProHeavy(final double size) { return Face.AVENIR_NEXT_LT_PRO_HEAVY.getFont(size); }
+    public static Font avenirNextLtProBold(final double size) { return Face.AVENIR_NEXT_LT_PRO_BOLD.getFont(size); }
+    public static Font avenirNextLtProDemi(final double size) { return Face.AVENIR_NEXT_LT_PRO_DEMI.getFont(size); }
+    public static Font avenirNextLtProMedium(final double size) { return Face.AVENIR_NEXT_LT_PRO_MEDIUM.getFont(size); }
+    public static Font avenirNextLtProRegular(final double size) { return Face.AVENIR_NEXT_LT_PRO_REGULAR.getFont(size); }
+    public static Font avenirNextLtProLight(final double size) { return Face.AVENIR_NEXT_LT_PRO_LIGHT.getFont(size); }
+    public static Font notoSansMono(final double size) { return Face.NOTO_SANS_MONO.getFont(size); }
 
     public static PdfFont getAvenirNextLtHeavy() throws IOException {
         final String      name    = "/eu/hansolo/fx/conficheck4j/fonts/AvenirNextLTPro-Heavy.ttf";
@@ -98,4 +66,70 @@ public class Fonts {
         return font;
     }
 
+
+    // ******************** Inner Classes *************************************
+    /**
+     * A font face that will only be loaded when it's used for the first time. Fonts are immutable and
+     * will be cached per size. Sizes will be rounded to steps of 0.5, so sizes computed from the layout
+     * don't add a new font on every resize. Sizes up to MAX_INDEXED_SIZE are stored in an array so that
+     * looking them up doesn't allocate, larger sizes are kept in a small LRU map.
+     */
+    private enum Face {
+        AVENIR_NEXT_LT_PRO_HEAVY("AvenirNextLTPro-Heavy.ttf"),
+        AVENIR_NEXT_LT_PRO_BOLD("AvenirNextLTPro-Bold.ttf"),
+        AVENIR_NEXT_LT_PRO_DEMI("AvenirNextLTPro-Demi.ttf"),
+        AVENIR_NEXT_LT_PRO_MEDIUM("AvenirNextLTPro-Medium.ttf"),
+        AVENIR_NEXT_LT_PRO_REGULAR("AvenirNextLTPro-Regular.ttf"),
+        AVENIR_NEXT_LT_PRO_LIGHT("AvenirNextLTPro-UltLt.ttf"),
+        NOTO_SANS_MONO("NotoSansMono-Regular.ttf");
+
+        private static final String                     FONT_FOLDER      = "/eu/hansolo/fx/conficheck4j/fonts/";
+        private static final int                        MAX_INDEXED_SIZE = 256;
+        private static final int                        MAX_OTHER_FONTS  = 16;
+        private        final String                     fileName;
+        private        final AtomicReferenceArray<Font> fontsBySize;
+        private        final Map<Double, Font>          otherFonts;
+        private volatile     boolean                    loaded;
+        private              String                     name;
+
+
+        Face(final String fileName) {
+            this.fileName    = fileName;
+            this.fontsBySize = new AtomicReferenceArray<>(MAX_INDEXED_SIZE * 2 + 1);
+            this.otherFonts  = new LinkedHashMap<>(MAX_OTHER_FONTS * 2, 0.75f, true) {
+                @Override protected boolean removeEldestEntry(final Map.Entry<Double, Font> eldest) { return size() > MAX_OTHER_FONTS; }
+            };
+            this.loaded      = false;
+        }
+
+
+        Font getFont(final double size) {
+            final long   halfSteps   = Math.round(Math.max(0, size) * 2);
+            final double roundedSize = halfSteps * 0.5;
+            if (halfSteps < this.fontsBySize.length()) {
+                final Font font = this.fontsBySize.get((int) halfSteps);
+                if (null != font) { return font; }
+                // Fonts are immutable, so a race only creates an additional instance
+                this.fontsBySize.compareAndSet((int) halfSteps, null, new Font(getName(), roundedSize));
+                return this.fontsBySize.get((int) halfSteps);
+            }
+            synchronized (this.otherFonts) {
+                return this.otherFonts.computeIfAbsent(roundedSize, s -> new Font(getName(), s));
+            }
+        }
+
+        private String getName() {
+            if (!this.loaded) {
+                synchronized (this) {
+                    if (!this.loaded) {
+                        try {
+                            this.name = Font.loadFont(Fonts.class.getResourceAsStream(FONT_FOLDER + this.fileName), 10).getName();
+                        } catch (Exception exception) { }
+                        this.loaded = true;
+                    }
+                }
+            }
+            return this.name;
+        }
+    }
 }
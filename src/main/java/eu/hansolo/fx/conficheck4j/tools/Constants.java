@@ -5,7 +5,6 @@ import javafx.scene.paint.Color;
 import java.io.File;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 
@@ -14,11 +13,14 @@ public final class Constants {
     public static final int      APP_REFRESH_INTERVAL         = 3600;
     public static final String   JAVA_CONFERENCES_JSON_URL    = "https://javaconferences.org/conferences.json";
     public static final String   JAVA_CHAMPIONS_YAML_URL      = "https://raw.githubusercontent.com/aalmiray/java-champions/refs/heads/main/java-champions.yml";
+    public static final long     JAVA_CHAMPIONS_TTL_IN_SEC    = 86_400;
 
     public static final boolean  IS_DARK_MODE                 = Helper.isDarkMode();
 
     public static final String   HOME_FOLDER                  = new StringBuilder(System.getProperty("user.home")).append(File.separator).toString();
     public static final String   CONFERENCE_ITEMS_FILENAME    = "conference_items.json";
+    public static final String   CONFERENCE_SNAPSHOT_FILENAME = "conference_items.bin";
+    public static final String   CONFERENCE_STATE_FILENAME    = "conference_state.log";
     public static final String   PROPOSAL_ITEMS_FILENAME      = "proposal_items.json";
     public static final String   PROPOSAL_ITEMS_PATH          = HOME_FOLDER + APP_NAME + File.separator + PROPOSAL_ITEMS_FILENAME;
     public static final String   SPEAKER_ITEM_FILENAME        = "speaker_item.json";
@@ -26,18 +28,11 @@ public final class Constants {
     public static final String   SPEAKER_IMAGE_PATH           = HOME_FOLDER + APP_NAME + File.separator + SPEAKER_IMAGE_FILENAME;
     public static final String   SPEAKER_ITEM_PATH            = HOME_FOLDER + APP_NAME + File.separator + SPEAKER_ITEM_FILENAME;
 
-    public static final Pattern  JAVA_CONFERENCE_DATE_REGEX   = Pattern.compile("(([0-9]{1,2})\\s+([A-Za-z]+)\\s+([0-9]{4}))|(([0-9]{1,2})[-–]([0-9]{1,2})\\s+([a-zA-Z]+)\\s+([0-9]{4}))|(([0-9]{1,2})\\s+([a-zA-Z]+)\\s-\\s+([0-9]{1,2})\\s([a-zA-Z]+)\\s+([0-9]{4}))");
-    public static final Matcher  JAVA_CONFERENCE_DATE_MATCHER = JAVA_CONFERENCE_DATE_REGEX.matcher("");
     public static final Pattern  EVENT_ITEM_LOCATION_REGEX    = Pattern.compile("(@\\s([a-zA-Z\\s]+)\\()");
-    public static final Matcher  EVENT_ITEM_LOCATION_MATCHER  = EVENT_ITEM_LOCATION_REGEX.matcher("");
     public static final Pattern  EVENT_ITEM_CITY_REGEX        = Pattern.compile("([A-Za-z0-9\\w.\\-\\s]+),");
-    public static final Matcher  EVENT_ITEM_CITY_MATCHER      = EVENT_ITEM_CITY_REGEX.matcher("");
     public static final Pattern  EVENT_ITEM_COUNTRY_REGEX     = Pattern.compile("(@\\s([a-zA-Z\\s]+)\\(([a-zA-Z\\s-]+)\\))");
-    public static final Matcher  EVENT_ITEM_COUNTRY_MATCHER   = EVENT_ITEM_COUNTRY_REGEX.matcher("");
     public static final Pattern  EVENT_ITEM_DATE_REGEX        = Pattern.compile("(\\s-\\s(([A-Za-z]{3})\\s([A-Za-z]{3})\\s([0-9]{1,2})\\s([0-9]{4})))");
-    public static final Matcher  EVENT_ITEM_DATE_MATCHER      = EVENT_ITEM_DATE_REGEX.matcher("");
     public static final Pattern  YAML_NAME_REGEX              = Pattern.compile("^\\s+\\-\\s+name:\\s+(Prof.\\s?Dr.\\s|Dr.\\s?Dr.\\s|Dr\\.\\s|Prof\\.\\s|Phd\\.\\s)?([a-zA-ZäüöÄÜÖßéÉáÁóÓíÍèÈàÀòÒìÌêÊâÂôÔîÎÚúÙùÛûçčåÅïÏ\\-]+)\\s?([a-zA-ZäüöÄÜÖßéÉáÁóÓíÍèÈàÀòÒìÌêÊâÂôÔîÎÚúÙùÛûçčåÅïÏ\\-]+)?\\s?([a-zA-ZäüöÄÜÖßéÉáÁóÓíÍèÈàÀòÒìÌêÊâÂôÔîÎÚúÙùÛûçčåÅïÏ\\-]+)?\\s?([a-zA-ZäüöÄÜÖßéÉáÁóÓíÍèÈàÀòÒìÌêÊâÂôÔîÎÚúÙùÛûçčåÅïÏ\\-]+)?\\s?([a-zA-ZäüöÄÜÖßéÉáÁóÓíÍèÈàÀòÒìÌêÊâÂôÔîÎÚúÙùÛûçčåÅïÏ\\-]+)?\\s+([a-zA-ZäüöÄÜÖßéÉáÁóÓíÍèÈàÀòÒìÌêÊâÂôÔîÎÚúÙùÛûçčåÅïÏ\\-]+)$");
-    public static final Matcher  YAML_NAME_MATCHER            = YAML_NAME_REGEX.matcher("");
 
     public static final String   CITY_DELIMITER               = ",";
     public static final String   PROFILE_IMAGE_NAME           = "ProfileImage";
@@ -46,9 +41,13 @@ public final class Constants {
     public static final int      SECONDS_PER_DAY               = 86400;
     public static final int      SECONDS_PER_WEEK              = 604800;
 
-    public static final long     PING_INTERVAL_IN_SEC          = 2;
+    public static final long     PROBE_MIN_INTERVAL_IN_SEC     = 2;
+    public static final long     PROBE_MAX_INTERVAL_IN_SEC     = 900;
+    public static final long     PROBE_TIMEOUT_IN_SEC          = 10;
     public static final String   TEST_CONNECTIVITY_URL         = "https://apple.com";
 
+    public static final long     WRITE_BEHIND_DELAY_IN_MS      = 1000;
+
     public static final double   STD_FONT_SIZE                 = 12;
 
     public static final Color    BLACK                         = Color.BLACK;
@@ -231,6 +230,22 @@ public final class Constants {
         }
 
 
+        public String getName() { return this.name; }
+    }
+
+    public enum LoadingStage {
+        LOCAL_CACHE("Local cache"),
+        REMOTE_FETCH("Remote fetch"),
+        PARSE("Parse"),
+        MERGE("Merge");
+
+        private String name;
+
+        LoadingStage(final String name) {
+            this.name = name;
+        }
+
+
         public String getName() { return this.name; }
     }
 }
@@ -0,0 +1,174 @@
+package eu.hansolo.fx.conficheck4j.tools;
+
+import java.time.Instant;
+
+
+/**
+ * Parses the date formats used by javaconferences.org into a date range without using regular expressions.
+ * Supported formats (month names can be full or abbreviated to 3 letters, case is ignored):
+ * <ul>
+ *     <li>12 March 2025</li>
+ *     <li>12-14 March 2025 (also with an en dash)</li>
+ *     <li>30 March - 2 April 2025</li>
+ *     <li>30 December 2025 - 2 January 2026</li>
+ * </ul>
+ * The result is a single long that contains the start epoch day in the upper and the end epoch day in the
+ * lower 32 bits. The parser has no state and doesn't create objects while parsing, so it can be used from
+ * any thread.
+ */
+public final class DateRangeParser {
+    public  static final long     INVALID     = Long.MIN_VALUE;
+    private static final String[] MONTH_NAMES = { "january", "february", "march", "april", "may", "june", "july", "august", "september", "october", "november", "december" };
+    private static final int      NUMBER      = 1;
+    private static final int      MONTH       = 2;
+    private static final int      DASH        = 3;
+    private static final int      MAX_TOKENS  = 7;
+
+
+    // ******************** Constructors **************************************
+    private DateRangeParser() {}
+
+
+    // ******************** Methods *******************************************
+    /**
+     * Parses the given text into a packed date range
+     * @param text the text to parse e.g. "12-14 March 2025"
+     * @return the packed date range or INVALID if the text could not be parsed
+     */
+    public static long parse(final CharSequence text) {
+        if (null == text) { return INVALID; }
+        final int length = text.length();
+        // Each token is stored as type << 32 | value
+        long t0 = 0, t1 = 0, t2 = 0, t3 = 0, t4 = 0, t5 = 0, t6 = 0;
+        int  count = 0;
+        int  i     = 0;
+        while (i < length) {
+            final char c = text.charAt(i);
+            long token;
+            if (Character.isWhitespace(c)) {
+                i++;
+                continue;
+            } else if (c >= '0' && c <= '9') {
+                int value  = 0;
+                int digits = 0;
+                while (i < length && text.charAt(i) >= '0' && text.charAt(i) <= '9') {
+                    if (++digits > 4) { return INVALID; }
+                    value = value * 10 + (text.charAt(i) - '0');
+                    i++;
+                }
+                token = ((long) NUMBER << 32) | value;
+            } else if (c == '-' || c == '–') {
+                i++;
+                token = (long) DASH << 32;
+            } else if (Character.isLetter(c)) {
+                final int start = i;
+                while (i < length && Character.isLetter(text.charAt(i))) { i++; }
+                final int month = month(text, start, i);
+                if (month == 0) { return INVALID; }
+                token = ((long) MONTH << 32) | month;
+            } else {
+                return INVALID;
+            }
+            switch (count) {
+                case 0  -> t0 = token;
+                case 1  -> t1 = token;
+                case 2  -> t2 = token;
+                case 3  -> t3 = token;
+                case 4  -> t4 = token;
+                case 5  -> t5 = token;
+                case 6  -> t6 = token;
+                default -> { return INVALID; }
+            }
+            count++;
+        }
+
+        switch (count) {
+            case 3 -> {
+                // 12 March 2025
+                if (is(t0, NUMBER) && is(t1, MONTH) && is(t2, NUMBER)) {
+                    final long day = epochDay(value(t2), value(t1), value(t0));
+                    return pack(day, day);
+                }
+            }
+            case 5 -> {
+                // 12-14 March 2025
+                if (is(t0, NUMBER) && is(t1, DASH) && is(t2, NUMBER) && is(t3, MONTH) && is(t4, NUMBER)) {
+                    return pack(epochDay(value(t4), value(t3), value(t0)), epochDay(value(t4), value(t3), value(t2)));
+                }
+            }
+            case 6 -> {
+                // 30 March - 2 April 2025
+                if (is(t0, NUMBER) && is(t1, MONTH) && is(t2, DASH) && is(t3, NUMBER) && is(t4, MONTH) && is(t5, NUMBER)) {
+                    return pack(epochDay(value(t5), value(t1), value(t0)), epochDay(value(t5), value(t4), value(t3)));
+                }
+            }
+            case MAX_TOKENS -> {
+                // 30 December 2025 - 2 January 2026
+                if (is(t0, NUMBER) && is(t1, MONTH) && is(t2, NUMBER) && is(t3, DASH) && is(t4, NUMBER) && is(t5, MONTH) && is(t6, NUMBER)) {
+                    return pack(epochDay(value(t2), value(t1), value(t0)), epochDay(value(t6), value(t5), value(t4)));
+                }
+            }
+        }
+        return INVALID;
+    }
+
+    public static boolean isValid(final long range) { return range != INVALID; }
+
+    public static long startEpochDay(final long range) { return range >> 32; }
+
+    public static long endEpochDay(final long range) { return (int) range; }
+
+    public static double days(final long range) { return endEpochDay(range) - startEpochDay(range) + 1; }
+
+    public static Instant startInstant(final long range) { return Instant.ofEpochSecond(startEpochDay(range) * Constants.SECONDS_PER_DAY); }
+
+    public static Instant endInstant(final long range) { return Instant.ofEpochSecond(endEpochDay(range) * Constants.SECONDS_PER_DAY); }
+
+
+    // ******************** Private Methods ***********************************
+    private static boolean is(final long token, final int type) { return (int) (token >>> 32) == type; }
+
+    private static int value(final long token) { return (int) token; }
+
+    private static long pack(final long startDay, final long endDay) {
+        if (startDay == INVALID || endDay == INVALID || endDay < startDay) { return INVALID; }
+        return (startDay << 32) | (endDay & 0xFFFFFFFFL);
+    }
+
+    // Returns the month (1 - 12) for a full or 3 letter month name or 0 if unknown
+    private static int month(final CharSequence text, final int start, final int end) {
+        final int length = end - start;
+        for (int m = 0 ; m < MONTH_NAMES.length ; m++) {
+            final String name = MONTH_NAMES[m];
+            if (length != name.length() && length != 3) { continue; }
+            boolean match = true;
+            for (int i = 0 ; i < length ; i++) {
+                if (Character.toLowerCase(text.charAt(start + i)) != name.charAt(i)) {
+                    match = false;
+                    break;
+                }
+            }
+            if (match) { return m + 1; }
+        }
+        return 0;
+    }
+
+    // Same result as LocalDate.of(year, month, day).toEpochDay() but without creating an object
+    private static long epochDay(final int year, final int month, final int day) {
+        if (month < 1 || month > 12 || day < 1 || day > lengthOfMonth(year, month)) { return INVALID; }
+        final long y   = month <= 2 ? year - 1 : year;
+        final long era = (y >= 0 ? y : y - 399) / 400;
+        final long yoe = y - era * 400;
+        final long doy = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        final long doe = yoe * 365 + yoe / 4 - yoe / 100 + doy;
+        return era * 146097 + doe - 719468;
+    }
+
+    private static int lengthOfMonth(final int year, final int month) {
+        return switch (month) {
+            case 2           -> ((year % 4 == 0 && year % 100 != 0) || year % 400 == 0) ? 29 : 28;
+            case 4, 6, 9, 11 -> 30;
+            default          -> 31;
+        };
+    }
+}
@@ -4,11 +4,15 @@ import com.google.gson.Gson;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 import eu.hansolo.fx.conficheck4j.data.ConferenceItem;
 import eu.hansolo.fx.conficheck4j.data.ConfiModel;
 import eu.hansolo.fx.conficheck4j.data.JavaConference;
 import eu.hansolo.fx.conficheck4j.data.ProposalItem;
 import eu.hansolo.fx.conficheck4j.data.SpeakerItem;
+import javafx.application.Application;
 import javafx.embed.swing.SwingFXUtils;
 import javafx.scene.image.Image;
 import javafx.scene.paint.Color;
@@ -22,6 +26,8 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
 import java.io.StringWriter;
 import java.net.URI;
 import java.net.http.HttpClient;
@@ -30,13 +36,14 @@ import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.net.http.HttpResponse.BodyHandlers;
 import java.nio.charset.Charset;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
-import java.time.LocalTime;
-import java.time.Month;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
@@ -45,6 +52,8 @@ import java.util.List;
 import java.util.Optional;
 import java.util.StringTokenizer;
 import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
 import java.util.stream.Collectors;
 
 import static eu.hansolo.jdktools.util.Helper.getOperatingSystem;
@@ -72,17 +81,41 @@ public class Helper {
     }
 
     public static final List<JavaConference> parseJavaConferencesJson(final String jsonText) {
-        final List<JavaConference> conferences          = new ArrayList<>();
+        final List<JavaConference> conferences = new ArrayList<>();
         if (null == jsonText || jsonText.isEmpty()) { return conferences; }
-        final Gson                 gson                 = new Gson();
-        final JsonArray            javaConferencesArray = gson.fromJson(jsonText, JsonElement.class).getAsJsonArray();
-        javaConferencesArray.forEach(jsonElement -> {
-            final JsonObject     jsonObject = jsonElement.getAsJsonObject();
-            final JavaConference conference = gson.fromJson(jsonObject, JavaConference.class);
-            conferences.add(conference);
-        });
+        try {
+            parseJavaConferencesJson(new StringReader(jsonText), conferences::add);
+        } catch (IOException e) {
+            System.out.println("Error parsing java conferences: " + e);
+        }
         return conferences;
     }
+    public static final void parseJavaConferencesJson(final InputStream inputStream, final Consumer<JavaConference> consumer) throws IOException {
+        parseJavaConferencesJson(new InputStreamReader(inputStream, UTF_8), consumer);
+    }
+    /**
+     * Reads the javaconferences.org json array record by record and passes each conference to the given
+     * consumer as soon as it was read, so only one record will be in memory at a time.
+     * @param reader the reader that provides the json array
+     * @param consumer the consumer that will be called for each conference
+     * @throws IOException if the reader fails
+     * @throws JsonParseException if the json is not an array of conferences (e.g. an error object)
+     */
+    public static final void parseJavaConferencesJson(final Reader reader, final Consumer<JavaConference> consumer) throws IOException {
+        final Gson gson = new Gson();
+        try (JsonReader jsonReader = new JsonReader(reader)) {
+            final JsonToken token = jsonReader.peek();
+            if (token == JsonToken.END_DOCUMENT) { return; }
+            // beginArray() would throw an IllegalStateException
+            if (token != JsonToken.BEGIN_ARRAY) { throw new JsonParseException("Expected a json array but found " + token); }
+            jsonReader.beginArray();
+            while (jsonReader.hasNext()) {
+                final JavaConference conference = gson.fromJson(jsonReader, JavaConference.class);
+                if (null != conference) { consumer.accept(conference); }
+            }
+            jsonReader.endArray();
+        }
+    }
 
     public static final List<ConferenceItem> parseConferenceItemsJson(final String jsonText, final ConfiModel model) {
         final List<ConferenceItem> conferences          = new ArrayList<>();
@@ -150,8 +183,12 @@ public class Helper {
     public static final boolean saveTextFile(final String text, final String filename) {
         if (null == filename || filename.isEmpty()) { throw new IllegalArgumentException("Filename cannot be null or empty"); }
         if (null == text || text.isEmpty()) { throw new IllegalArgumentException("Text cannot be null or empty"); }
+        // Write to a temp file first so that the file will never be left half written
+        final Path path    = Paths.get(filename);
+        final Path tmpPath = path.resolveSibling(path.getFileName() + ".tmp");
         try {
-            Files.write(Paths.get(filename), text.getBytes());
+            Files.write(tmpPath, text.getBytes());
+            moveAtomically(tmpPath, path);
             return true;
         } catch (IOException e) {
             System.out.println("Error saving text file " + filename + ". " + e);
@@ -159,9 +196,17 @@ public class Helper {
         }
     }
 
-    public static final void saveConferenceItems(final List<ConferenceItem> conferences) {
-        Helper.saveTextFile(new StringBuilder().append(conferences.stream().map(conferenceItem -> conferenceItem.toJsonString()).collect(
-        Collectors.joining(eu.hansolo.toolbox.Constants.COMMA, eu.hansolo.toolbox.Constants.SQUARE_BRACKET_OPEN, eu.hansolo.toolbox.Constants.SQUARE_BRACKET_CLOSE))).toString(), eu.hansolo.toolbox.Constants.HOME_FOLDER + Constants.APP_NAME + File.separator + eu.hansolo.fx.conficheck4j.tools.Constants.CONFERENCE_ITEMS_FILENAME);
+    public static final void moveAtomically(final Path source, final Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    public static final String toConferenceItemsJson(final List<ConferenceItem> conferences) {
+        return new StringBuilder().append(conferences.stream().map(conferenceItem -> conferenceItem.toJsonString()).collect(
+        Collectors.joining(eu.hansolo.toolbox.Constants.COMMA, eu.hansolo.toolbox.Constants.SQUARE_BRACKET_OPEN, eu.hansolo.toolbox.Constants.SQUARE_BRACKET_CLOSE))).toString();
     }
 
     public static final void saveProposalItems(final List<ProposalItem> proposals) {
@@ -194,44 +239,19 @@ public class Helper {
 
     public static final Optional<Instant>[] getDatesFromJavaConferenceDate(final String date) {
         if (null == date || date.isEmpty()) { return new Optional[] { Optional.empty(), Optional.empty() }; }
-        Constants.JAVA_CONFERENCE_DATE_MATCHER.reset(date);
-        if (Constants.JAVA_CONFERENCE_DATE_MATCHER.matches()) {
-            if (Constants.JAVA_CONFERENCE_DATE_MATCHER.group(1) != null) {
-                final int           day1   = Integer.parseInt(Constants.JAVA_CONFERENCE_DATE_MATCHER.group(2));
-                final int           month1 = Month.valueOf(Constants.JAVA_CONFERENCE_DATE_MATCHER.group(3).toUpperCase()).getValue();
-                final int           year1  = Integer.parseInt(Constants.JAVA_CONFERENCE_DATE_MATCHER.group(4));
-                final ZonedDateTime date1  = ZonedDateTime.of(LocalDate.of(year1, month1, day1), LocalTime.of(0, 0), ZoneOffset.UTC);
-                return new Optional[] { Optional.of(Instant.from(date1)), Optional.empty() };
-            } else if (Constants.JAVA_CONFERENCE_DATE_MATCHER.group(5) != null) {
-                final int           day1   = Integer.parseInt(Constants.JAVA_CONFERENCE_DATE_MATCHER.group(6));
-                final int           day2   = Integer.parseInt(Constants.JAVA_CONFERENCE_DATE_MATCHER.group(7));
-                final int           month1 = Month.valueOf(Constants.JAVA_CONFERENCE_DATE_MATCHER.group(8).toUpperCase()).getValue();
-                final int           year1  = Integer.parseInt(Constants.JAVA_CONFERENCE_DATE_MATCHER.group(9));
-                final ZonedDateTime date1  = ZonedDateTime.of(LocalDate.of(year1, month1, day1), LocalTime.of(0, 0), ZoneOffset.UTC);
-                final ZonedDateTime date2  = ZonedDateTime.of(LocalDate.of(year1, month1, day2), LocalTime.of(0, 0), ZoneOffset.UTC);
-                return new Optional[] { Optional.of(Instant.from(date1)), Optional.of(Instant.from(date2)) };
-            } else if (Constants.JAVA_CONFERENCE_DATE_MATCHER.group(10) != null) {
-                final int           day1   = Integer.parseInt(Constants.JAVA_CONFERENCE_DATE_MATCHER.group(11));
-                final int           month1 = Month.valueOf(Constants.JAVA_CONFERENCE_DATE_MATCHER.group(12).toUpperCase()).getValue();
-                final int           day2   = Integer.parseInt(Constants.JAVA_CONFERENCE_DATE_MATCHER.group(13));
-                final int           month2 = Month.valueOf(Constants.JAVA_CONFERENCE_DATE_MATCHER.group(14).toUpperCase()).getValue();
-                final int           year   = Integer.parseInt(Constants.JAVA_CONFERENCE_DATE_MATCHER.group(15));
-                final ZonedDateTime date1  = ZonedDateTime.of(LocalDate.of(year, month1, day1), LocalTime.of(0, 0), ZoneOffset.UTC);
-                final ZonedDateTime date2  = ZonedDateTime.of(LocalDate.of(year, month2, day2), LocalTime.of(0, 0), ZoneOffset.UTC);
-                return new Optional[] { Optional.of(Instant.from(date1)), Optional.of(Instant.from(date2)) };
-            } else {
-                return new Optional[] { Optional.empty(), Optional.empty() };
-            }
-        }
-        return new Optional[] { Optional.empty(), Optional.empty() };
+        final long range = DateRangeParser.parse(date);
+        if (!DateRangeParser.isValid(range)) { return new Optional[] { Optional.empty(), Optional.empty() }; }
+        final Instant startDate = DateRangeParser.startInstant(range);
+        if (DateRangeParser.startEpochDay(range) == DateRangeParser.endEpochDay(range)) { return new Optional[] { Optional.of(startDate), Optional.empty() }; }
+        return new Optional[] { Optional.of(startDate), Optional.of(DateRangeParser.endInstant(range)) };
     }
 
     public static final String getLocationFromEventItem(final String text) {
         if (text == null || text.isEmpty()) { return ""; }
-        Constants.EVENT_ITEM_LOCATION_MATCHER.reset(text);
-        if (Constants.EVENT_ITEM_LOCATION_MATCHER.matches()) {
-            if (Constants.EVENT_ITEM_LOCATION_MATCHER.group(2) != null) {
-                return Constants.EVENT_ITEM_LOCATION_MATCHER.group(2);
+        final Matcher matcher = Constants.EVENT_ITEM_LOCATION_REGEX.matcher(text);
+        if (matcher.matches()) {
+            if (matcher.group(2) != null) {
+                return matcher.group(2);
             }
         }
         return "";
@@ -281,24 +301,72 @@ public class Helper {
         return st.countTokens();
     }
 
+    /**
+     * Returns the java champions, the yaml file will only be downloaded if the cached one is older than JAVA_CHAMPIONS_TTL_IN_SEC
+     */
     public static List<JavaChampion> getJavaChampions() {
         final List<JavaChampion> javaChampions = new ArrayList<>();
-        final String             yaml          = getTextFromUrl(Constants.JAVA_CHAMPIONS_YAML_URL);
-        yaml.lines().forEach(line -> {
-            Constants.YAML_NAME_MATCHER.reset(line);
-            if (Constants.YAML_NAME_MATCHER.matches()) {
-                final String title = Constants.YAML_NAME_MATCHER.group(1) != null ? Constants.YAML_NAME_MATCHER.group(1) : "";
-                String firstName = Constants.YAML_NAME_MATCHER.group(2) != null ? Constants.YAML_NAME_MATCHER.group(2) : "";
-                if (Constants.YAML_NAME_MATCHER.group(3) != null) { firstName += " " + Constants.YAML_NAME_MATCHER.group(3); }
+        final Path               body          = HttpCache.INSTANCE.getBody(Constants.JAVA_CHAMPIONS_YAML_URL, Duration.ofSeconds(Constants.JAVA_CHAMPIONS_TTL_IN_SEC));
+        if (null == body) { return javaChampions; }
+        try (BufferedReader reader = Files.newBufferedReader(body, UTF_8)) {
+            parseJavaChampions(reader, javaChampions::add);
+        } catch (IOException e) {
+            System.out.println("Error reading java champions: " + e);
+        }
+        return javaChampions;
+    }
+
+    /**
+     * Reads the yaml line by line, only lines that start with "- name:" (after the indentation) will be
+     * matched against YAML_NAME_REGEX, so only the current line has to be kept in memory.
+     * @param reader the reader of the yaml file
+     * @param consumer will be called with each java champion
+     * @throws IOException if the yaml file can't be read
+     */
+    public static void parseJavaChampions(final BufferedReader reader, final Consumer<JavaChampion> consumer) throws IOException {
+        final Matcher matcher = Constants.YAML_NAME_REGEX.matcher("");
+        String line;
+        while (null != (line = reader.readLine())) {
+            if (!isYamlNameEntry(line)) { continue; }
+            matcher.reset(line);
+            if (matcher.matches()) {
+                final String title = matcher.group(1) != null ? matcher.group(1) : "";
+                String firstName = matcher.group(2) != null ? matcher.group(2) : "";
+                if (matcher.group(3) != null) { firstName += " " + matcher.group(3); }
                 String lastName = "";
-                if (Constants.YAML_NAME_MATCHER.group(4) != null) { lastName += " " + Constants.YAML_NAME_MATCHER.group(4); }
-                if (Constants.YAML_NAME_MATCHER.group(5) != null) { lastName += " " + Constants.YAML_NAME_MATCHER.group(5); }
-                if (Constants.YAML_NAME_MATCHER.group(6) != null) { lastName += " " + Constants.YAML_NAME_MATCHER.group(6); }
-                if (Constants.YAML_NAME_MATCHER.group(7) != null) { lastName += " " + Constants.YAML_NAME_MATCHER.group(7); }
-                javaChampions.add(new JavaChampion(title.trim(), firstName.trim(), lastName.trim()));
+                if (matcher.group(4) != null) { lastName += " " + matcher.group(4); }
+                if (matcher.group(5) != null) { lastName += " " + matcher.group(5); }
+                if (matcher.group(6) != null) { lastName += " " + matcher.group(6); }
+                if (matcher.group(7) != null) { lastName += " " + matcher.group(7); }
+                consumer.accept(new JavaChampion(title.trim(), firstName.trim(), lastName.trim()));
             }
-        });
-        return javaChampions;
+        }
+    }
+
+    // Same structure as the start of YAML_NAME_REGEX: indentation, '-', whitespace, "name:"
+    private static boolean isYamlNameEntry(final String line) {
+        final int length = line.length();
+        int i = 0;
+        while (i < length && Character.isWhitespace(line.charAt(i))) { i++; }
+        if (i == 0 || i == length || line.charAt(i) != '-') { return false; }
+        final int dash = ++i;
+        while (i < length && Character.isWhitespace(line.charAt(i))) { i++; }
+        return i > dash && line.startsWith("name:", i);
+    }
+
+    /**
+     * Opens the given url in the external browser (only if online), falls back to the host services
+     * of the application if x-www-browser is not available
+     * @param application the application that provides the host services
+     * @param url the url that should be opened
+     */
+    public static void openUrlInExternalBrowser(final Application application, final String url) {
+        if (!NetworkMonitor.INSTANCE.isOnline()) { return; }
+        try {
+            new ProcessBuilder("x-www-browser", url).start();
+        } catch (IOException ex) {
+            application.getHostServices().showDocument(url);
+        }
     }
 
     public static final boolean isDarkMode() {
@@ -360,8 +428,12 @@ public class Helper {
                          .build();
     }
 
-    public static final HttpResponse<String> get(final String uri) {
+    public static final synchronized HttpClient getHttpClient() {
         if (null == httpClient) { httpClient = createHttpClient(); }
+        return httpClient;
+    }
+
+    public static final HttpResponse<String> get(final String uri) {
         HttpRequest request = HttpRequest.newBuilder()
                                          .GET()
                                          .uri(URI.create(uri))
@@ -369,7 +441,8 @@ public class Helper {
                                          .timeout(Duration.ofSeconds(60))
                                          .build();
         try {
-            HttpResponse<String> response = httpClient.send(request, BodyHandlers.ofString());
+            HttpResponse<String> response = getHttpClient().send(request, BodyHandlers.ofString());
+            NetworkMonitor.INSTANCE.reportSuccess();
             if (response.statusCode() == 200) {
                 return response;
             } else {
@@ -379,12 +452,12 @@ public class Helper {
             }
         } catch (CompletionException | InterruptedException | IOException e) {
             System.out.println("Error connecting to " + uri + " with exception: " + e);
+            if (e instanceof IOException) { NetworkMonitor.INSTANCE.reportFailure(); }
             return null;
         }
     }
     public static final HttpResponse<String> get(final String uri, final String apiKey) { return get(uri, apiKey, ""); }
     public static final HttpResponse<String> get(final String uri, final String apiKey, final String userAgent) {
-        if (null == httpClient) { httpClient = createHttpClient(); }
         final String userAgentText = (null == userAgent || userAgent.isEmpty()) ? "ConfiCheck" : "ConfiCheck (" + userAgent + ")";
         HttpRequest request = HttpRequest.newBuilder()
                                          .GET()
@@ -396,7 +469,8 @@ public class Helper {
                                          .build();
         //System.out.println(request.toString());
         try {
-            HttpResponse<String> response = httpClient.send(request, BodyHandlers.ofString());
+            HttpResponse<String> response = getHttpClient().send(request, BodyHandlers.ofString());
+            NetworkMonitor.INSTANCE.reportSuccess();
             if (response.statusCode() == 200) {
                 return response;
             } else if (response.statusCode() == 503) {
@@ -413,36 +487,27 @@ public class Helper {
                 return response;
             }
         } catch (CompletionException | InterruptedException | IOException e) {
+            if (e instanceof IOException) { NetworkMonitor.INSTANCE.reportFailure(); }
             return null;
         }
     }
 
     public static final HttpResponse<String> httpHeadRequestSync(final String uri) {
-        if (null == httpClient) { httpClient = createHttpClient(); }
-
         final HttpRequest request = HttpRequest.newBuilder()
                                                .HEAD()
                                                .method("HEAD", HttpRequest.BodyPublishers.noBody())
                                                .uri(URI.create(uri))
+                                               .timeout(Duration.ofSeconds(Constants.PROBE_TIMEOUT_IN_SEC))
                                                .build();
 
         try {
-            HttpResponse<String> response = httpClient.send(request, BodyHandlers.ofString());
+            HttpResponse<String> response = getHttpClient().send(request, BodyHandlers.ofString());
             return response;
         } catch (CompletionException | InterruptedException | IOException e) {
             return null;
         }
     }
 
-    public static final String getTextFromUrl(final String uri) {
-        // Get all text from given uri
-        try (var stream = URI.create(uri).toURL().openStream()) {
-            return new String(stream.readAllBytes(), UTF_8);
-        } catch(Exception e) {
-            System.out.println("Error reading text from uri: " + uri);
-            return "";
-        }
-    }
 
 
     // ******************** Internal Classes **********************************
@@ -0,0 +1,178 @@
+package eu.hansolo.fx.conficheck4j.tools;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Properties;
+import java.util.concurrent.CompletionException;
+
+
+/**
+ * On-disk cache for http GET requests. The response body will be stored together with its
+ * validators (ETag, Last-Modified) in the http_cache folder of the app. Subsequent requests
+ * will be sent as conditional requests, so an unchanged resource will be answered with a
+ * 304 and no body has to be downloaded. Servers that don't support conditional requests will
+ * be detected by the hash of the body, so an unchanged body won't be reported as modified.
+ */
+public enum HttpCache {
+    INSTANCE;
+
+    private static final String   CACHE_FOLDER_NAME  = "http_cache";
+    private static final String   BODY_SUFFIX        = ".body";
+    private static final String   META_SUFFIX        = ".meta";
+    private static final String   TMP_SUFFIX         = ".tmp";
+    private static final String   PROPERTY_URI       = "uri";
+    private static final String   PROPERTY_ETAG      = "etag";
+    private static final String   PROPERTY_MODIFIED  = "lastModified";
+    private static final String   PROPERTY_TIMESTAMP = "timestamp";
+    private static final String   PROPERTY_HASH      = "sha256";
+    private static final Duration REQUEST_TIMEOUT    = Duration.ofSeconds(60);
+    private        final Path     cacheFolder;
+
+
+    // ******************** Constructors **************************************
+    HttpCache() {
+        this.cacheFolder = Paths.get(Constants.HOME_FOLDER, Constants.APP_NAME, CACHE_FOLDER_NAME);
+    }
+
+
+    // ******************** Methods *******************************************
+    /**
+     * Fetches the given uri by using a conditional request if the resource is already cached.
+     * If the request fails the cached body (if any) will be returned with modified == false.
+     * @param uri the uri of the resource
+     * @return the response with the path to the (cached) body, the body is null if nothing is available
+     */
+    public synchronized Response fetch(final String uri) {
+        final Path       bodyPath = getBodyPath(uri);
+        final Path       metaPath = getMetaPath(uri);
+        final Properties meta     = Files.exists(bodyPath) ? readMeta(metaPath) : new Properties();
+
+        final HttpRequest.Builder builder = HttpRequest.newBuilder()
+                                                       .GET()
+                                                       .uri(URI.create(uri))
+                                                       .setHeader("User-Agent", "ConfiCheck")
+                                                       .timeout(REQUEST_TIMEOUT);
+        final String eTag         = meta.getProperty(PROPERTY_ETAG, "");
+        final String lastModified = meta.getProperty(PROPERTY_MODIFIED, "");
+        if (!eTag.isEmpty())         { builder.setHeader("If-None-Match", eTag); }
+        if (!lastModified.isEmpty()) { builder.setHeader("If-Modified-Since", lastModified); }
+
+        final Path tmpPath = this.cacheFolder.resolve(getKey(uri) + TMP_SUFFIX);
+        try {
+            Files.createDirectories(this.cacheFolder);
+            final HttpResponse<Path> response = Helper.getHttpClient().send(builder.build(), BodyHandlers.ofFile(tmpPath));
+            final int                status   = response.statusCode();
+            NetworkMonitor.INSTANCE.reportSuccess();
+            if (status == 304) {
+                Files.deleteIfExists(tmpPath);
+                // The cached body has been validated right now
+                meta.setProperty(PROPERTY_TIMESTAMP, Long.toString(System.currentTimeMillis()));
+                writeMeta(meta, metaPath);
+                return new Response(status, false, bodyPath);
+            } else if (status == 200) {
+                final String hash = getHash(tmpPath);
+                Helper.moveAtomically(tmpPath, bodyPath);
+                final Properties newMeta = new Properties();
+                newMeta.setProperty(PROPERTY_URI, uri);
+                newMeta.setProperty(PROPERTY_ETAG, response.headers().firstValue("ETag").orElse(""));
+                newMeta.setProperty(PROPERTY_MODIFIED, response.headers().firstValue("Last-Modified").orElse(""));
+                newMeta.setProperty(PROPERTY_TIMESTAMP, Long.toString(System.currentTimeMillis()));
+                newMeta.setProperty(PROPERTY_HASH, hash);
+                writeMeta(newMeta, metaPath);
+                return new Response(status, hash.isEmpty() || !hash.equals(meta.getProperty(PROPERTY_HASH, "")), bodyPath);
+            } else {
+                System.out.println("Error connecting to " + uri + " with response code: " + status);
+                Files.deleteIfExists(tmpPath);
+                return new Response(status, false, Files.exists(bodyPath) ? bodyPath : null);
+            }
+        } catch (CompletionException | InterruptedException | IOException e) {
+            System.out.println("Error connecting to " + uri + " with exception: " + e);
+            if (e instanceof IOException) { NetworkMonitor.INSTANCE.reportFailure(); }
+            try { Files.deleteIfExists(tmpPath); } catch (IOException ex) { }
+            return new Response(-1, false, Files.exists(bodyPath) ? bodyPath : null);
+        }
+    }
+
+    /**
+     * Returns the path to the cached body of the given uri without sending a request if the cached body
+     * is younger than the given max age, otherwise the resource will be fetched (see fetch(String))
+     * @param uri the uri of the resource
+     * @param maxAge the time the cached body can be used without asking the server
+     * @return the path to the body or null if nothing is available
+     */
+    public Path getBody(final String uri, final Duration maxAge) {
+        final Path bodyPath = getBodyPath(uri);
+        if (Files.exists(bodyPath)) {
+            final String timestamp = readMeta(getMetaPath(uri)).getProperty(PROPERTY_TIMESTAMP, "0");
+            if (timestamp.matches("\\d+") && System.currentTimeMillis() - Long.parseLong(timestamp) < maxAge.toMillis()) { return bodyPath; }
+        }
+        return fetch(uri).body();
+    }
+
+    // ******************** Private Methods ***********************************
+    private Path getBodyPath(final String uri) { return this.cacheFolder.resolve(getKey(uri) + BODY_SUFFIX); }
+    private Path getMetaPath(final String uri) { return this.cacheFolder.resolve(getKey(uri) + META_SUFFIX); }
+
+    private static String getKey(final String uri) {
+        try {
+            final byte[] hash = MessageDigest.getInstance("SHA-256").digest(uri.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            return Integer.toHexString(uri.hashCode());
+        }
+    }
+
+    private static String getHash(final Path path) {
+        try (InputStream inputStream = Files.newInputStream(path)) {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            final byte[]        buffer = new byte[8192];
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) { digest.update(buffer, 0, read); }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (IOException | NoSuchAlgorithmException e) {
+            System.out.println("Error hashing " + path + ". " + e);
+            return "";
+        }
+    }
+
+    private static Properties readMeta(final Path metaPath) {
+        final Properties meta = new Properties();
+        if (!Files.exists(metaPath)) { return meta; }
+        try (InputStream inputStream = Files.newInputStream(metaPath)) {
+            meta.load(inputStream);
+        } catch (IOException e) {
+            System.out.println("Error reading http cache meta data. " + e);
+        }
+        return meta;
+    }
+
+    private static void writeMeta(final Properties meta, final Path metaPath) throws IOException {
+        final Path tmpPath = metaPath.resolveSibling(metaPath.getFileName() + TMP_SUFFIX);
+        try (OutputStream outputStream = Files.newOutputStream(tmpPath)) {
+            meta.store(outputStream, null);
+        }
+        Helper.moveAtomically(tmpPath, metaPath);
+    }
+
+
+    // ******************** Inner Classes *************************************
+    /**
+     * @param statusCode the http status code or -1 if the request failed
+     * @param modified true if the body was downloaded with this request and differs from the cached one, false if it comes from the cache or is unchanged
+     * @param body the path to the body or null if no body is available
+     */
+    public record Response(int statusCode, boolean modified, Path body) { }
+}
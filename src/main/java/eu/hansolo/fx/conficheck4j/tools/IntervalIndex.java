@@ -0,0 +1,91 @@
+package eu.hansolo.fx.conficheck4j.tools;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
+
+
+/**
+ * Immutable index over half open intervals [start, end) that answers which items overlap a given
+ * window in O(log n + k). The items are sorted by their start and stored as an implicit balanced
+ * binary tree (the middle of each range is the node) where each node knows the maximum end of its
+ * subtree, so subtrees that end before the window can be skipped.
+ * @param <T> the type of the items
+ */
+public final class IntervalIndex<T> {
+    private final List<T> items;
+    private final long[]  starts;
+    private final long[]  ends;
+    private final long[]  maxEnds;
+
+
+    // ******************** Constructors **************************************
+    /**
+     * @param items the items to index
+     * @param start returns the start of the interval of an item (inclusive)
+     * @param end returns the end of the interval of an item (exclusive)
+     */
+    public IntervalIndex(final List<T> items, final ToLongFunction<T> start, final ToLongFunction<T> end) {
+        final List<T> sorted = new ArrayList<>(items);
+        sorted.sort(Comparator.comparingLong(start));
+        this.items   = sorted;
+        this.starts  = new long[sorted.size()];
+        this.ends    = new long[sorted.size()];
+        this.maxEnds = new long[sorted.size()];
+        for (int i = 0 ; i < sorted.size() ; i++) {
+            this.starts[i] = start.applyAsLong(sorted.get(i));
+            this.ends[i]   = end.applyAsLong(sorted.get(i));
+        }
+        buildMaxEnds(0, sorted.size());
+    }
+
+
+    // ******************** Methods *******************************************
+    public int size() { return this.items.size(); }
+
+    /**
+     * Calls the consumer for each item that overlaps the window [from, to) in order of their start
+     * @param from the start of the window (inclusive)
+     * @param to the end of the window (exclusive)
+     * @param consumer will be called for each overlapping item
+     */
+    public void query(final long from, final long to, final Consumer<T> consumer) {
+        if (from >= to) { return; }
+        query(0, this.items.size(), from, to, consumer);
+    }
+
+    /**
+     * @param from the start of the window (inclusive)
+     * @param to the end of the window (exclusive)
+     * @return the items that overlap the window [from, to) in order of their start
+     */
+    public List<T> query(final long from, final long to) {
+        final List<T> result = new ArrayList<>();
+        query(from, to, result::add);
+        return result;
+    }
+
+
+    // ******************** Private Methods ***********************************
+    private long buildMaxEnds(final int lo, final int hi) {
+        if (lo >= hi) { return Long.MIN_VALUE; }
+        final int  mid    = (lo + hi) >>> 1;
+        final long maxEnd = Math.max(this.ends[mid], Math.max(buildMaxEnds(lo, mid), buildMaxEnds(mid + 1, hi)));
+        this.maxEnds[mid] = maxEnd;
+        return maxEnd;
+    }
+
+    private void query(final int lo, final int hi, final long from, final long to, final Consumer<T> consumer) {
+        if (lo >= hi) { return; }
+        final int mid = (lo + hi) >>> 1;
+        // Nothing in this subtree ends after the start of the window
+        if (this.maxEnds[mid] <= from) { return; }
+        query(lo, mid, from, to, consumer);
+        // This node and everything to its right starts after the end of the window
+        if (this.starts[mid] >= to) { return; }
+        if (this.ends[mid] > from) { consumer.accept(this.items.get(mid)); }
+        query(mid + 1, hi, from, to, consumer);
+    }
+}
@@ -1,7 +1,16 @@
 package eu.hansolo.fx.conficheck4j.tools;
 
+import eu.hansolo.fx.conficheck4j.tools.Constants.Continent;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 
 
 public class IsoCountries {
@@ -262,8 +271,88 @@ public class IsoCountries {
         new IsoCountryInfo("European Union", "097", "EU", "", "", "EUR", "EU", 0)
     );
 
-    public static final Optional<IsoCountryInfo> fromIso2(final String iso2) {
-        return ALL_COUNTRIES.parallelStream().filter(isoCountryInfo -> isoCountryInfo.name().equalsIgnoreCase(iso2)).findFirst();
+    // Immutable indexes, built once when the class is loaded
+    private static final Map<String, IsoCountryInfo>          BY_NAME      = index(ALL_COUNTRIES, IsoCountryInfo::name);
+    private static final Map<String, IsoCountryInfo>          BY_ALPHA2    = index(ALL_COUNTRIES, IsoCountryInfo::alpha2);
+    private static final Map<String, IsoCountryInfo>          BY_ALPHA3    = index(ALL_COUNTRIES, IsoCountryInfo::alpha3);
+    private static final Map<String, IsoCountryInfo>          BY_NUMERIC   = index(ALL_COUNTRIES, IsoCountryInfo::numeric);
+    private static final Map<Continent, List<IsoCountryInfo>> BY_CONTINENT = indexByContinent(ALL_COUNTRIES);
+
+
+    public static final Optional<IsoCountryInfo> fromIso2(final String iso2) { return Optional.ofNullable(getByAlpha2(iso2)); }
+
+    /**
+     * @param name the name of the country (case is ignored)
+     * @return the country with the given name or null if unknown
+     */
+    public static final IsoCountryInfo getByName(final String name) { return lookup(BY_NAME, name); }
+
+    /**
+     * @param alpha2 the ISO 3166 alpha-2 code (case is ignored)
+     * @return the country with the given code or null if unknown
+     */
+    public static final IsoCountryInfo getByAlpha2(final String alpha2) { return lookup(BY_ALPHA2, alpha2); }
+
+    /**
+     * @param alpha3 the ISO 3166 alpha-3 code (case is ignored)
+     * @return the country with the given code or null if unknown
+     */
+    public static final IsoCountryInfo getByAlpha3(final String alpha3) { return lookup(BY_ALPHA3, alpha3); }
+
+    /**
+     * @param numeric the ISO 3166 numeric code e.g. "276"
+     * @return the country with the given code or null if unknown
+     */
+    public static final IsoCountryInfo getByNumeric(final String numeric) { return lookup(BY_NUMERIC, numeric); }
+
+    /**
+     * @param continent the continent
+     * @return an immutable list of the countries in the given continent, all countries for Continent.ALL
+     */
+    public static final List<IsoCountryInfo> getCountries(final Continent continent) { return Continent.ALL == continent ? ALL_COUNTRIES : BY_CONTINENT.getOrDefault(continent, List.of()); }
+
+    /**
+     * @param name the name of the country (case is ignored)
+     * @return the continent of the given country, Continent.ALL if the country is known but has no continent and null if the country is unknown
+     */
+    public static final Continent getContinent(final String name) {
+        final IsoCountryInfo isoCountryInfo = getByName(name);
+        if (null == isoCountryInfo) { return null; }
+        for (final Continent continent : Continent.values()) {
+            if (Continent.ALL != continent && continent.code.equals(isoCountryInfo.continent())) { return continent; }
+        }
+        return Continent.ALL;
+    }
+
+    // Looks up the key as given first, so only keys in an unexpected case have to be case folded
+    private static IsoCountryInfo lookup(final Map<String, IsoCountryInfo> index, final String key) {
+        if (null == key) { return null; }
+        final IsoCountryInfo isoCountryInfo = index.get(key);
+        return null != isoCountryInfo ? isoCountryInfo : index.get(key.toLowerCase(Locale.ROOT));
     }
 
+    // Contains each key as given and case folded
+    private static Map<String, IsoCountryInfo> index(final List<IsoCountryInfo> countries, final Function<IsoCountryInfo, String> key) {
+        final Map<String, IsoCountryInfo> index = new HashMap<>(countries.size() * 4);
+        for (final IsoCountryInfo isoCountryInfo : countries) {
+            final String k = key.apply(isoCountryInfo);
+            if (null == k || k.isEmpty()) { continue; }
+            index.putIfAbsent(k, isoCountryInfo);
+            index.putIfAbsent(k.toLowerCase(Locale.ROOT), isoCountryInfo);
+        }
+        return Collections.unmodifiableMap(index);
+    }
+
+    private static Map<Continent, List<IsoCountryInfo>> indexByContinent(final List<IsoCountryInfo> countries) {
+        final Map<Continent, List<IsoCountryInfo>> index = new EnumMap<>(Continent.class);
+        for (final Continent continent : Continent.values()) {
+            if (Continent.ALL == continent) { continue; }
+            final List<IsoCountryInfo> countriesInContinent = new ArrayList<>();
+            for (final IsoCountryInfo isoCountryInfo : countries) {
+                if (continent.code.equals(isoCountryInfo.continent())) { countriesInContinent.add(isoCountryInfo); }
+            }
+            index.put(continent, List.copyOf(countriesInContinent));
+        }
+        return Collections.unmodifiableMap(index);
+    }
 }
@@ -4,15 +4,18 @@ import java.util.Optional;
 
 
 public class IsoCountryCodes {
+    /**
+     * @param key the alpha-2, alpha-3 or numeric ISO 3166 code (case is ignored)
+     * @return the country with the given code
+     */
     public static final Optional<IsoCountryInfo> find(final String key) {
-        return IsoCountries.ALL_COUNTRIES.parallelStream()
-                                  .filter(isoCountryInfo -> isoCountryInfo.alpha2().equals(key.toUpperCase()) ||
-                                                                         isoCountryInfo.alpha3().equals(key.toUpperCase()) ||
-                                                                         isoCountryInfo.numeric().equals(key.toUpperCase()))
-                                  .findFirst();
+        IsoCountryInfo isoCountryInfo = IsoCountries.getByAlpha2(key);
+        if (null == isoCountryInfo) { isoCountryInfo = IsoCountries.getByAlpha3(key); }
+        if (null == isoCountryInfo) { isoCountryInfo = IsoCountries.getByNumeric(key); }
+        return Optional.ofNullable(isoCountryInfo);
     }
 
     public static final Optional<IsoCountryInfo> searchByName(final String name) {
-        return IsoCountries.ALL_COUNTRIES.parallelStream().filter(isoCountryInfo -> isoCountryInfo.name().equalsIgnoreCase(name)).findFirst();
+        return Optional.ofNullable(IsoCountries.getByName(name));
     }
 }
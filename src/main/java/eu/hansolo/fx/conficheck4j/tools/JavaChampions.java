@@ -0,0 +1,75 @@
+package eu.hansolo.fx.conficheck4j.tools;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+
+/**
+ * Loads the java champions in the background (see Helper.getJavaChampions()) and keeps them in an
+ * index by their normalized name, so checking whether someone is a java champion is a single lookup.
+ * Constants.JAVA_CHAMPIONS will be filled with the same champions once they are loaded.
+ */
+public enum JavaChampions {
+    INSTANCE;
+
+    private volatile Map<String, JavaChampion>             index;
+    private          CompletableFuture<List<JavaChampion>> loading;
+
+
+    // ******************** Constructors **************************************
+    JavaChampions() {
+        this.index = Map.of();
+    }
+
+
+    // ******************** Methods *******************************************
+    /**
+     * Loads the java champions on a background thread, subsequent calls return the same future
+     * @return a future that will be completed with the java champions (empty if they could not be loaded)
+     */
+    public synchronized CompletableFuture<List<JavaChampion>> load() {
+        if (null == this.loading) {
+            this.loading = CompletableFuture.supplyAsync(Helper::getJavaChampions, runnable -> {
+                                                final Thread thread = new Thread(runnable, "ConfiCheck-JavaChampions");
+                                                thread.setDaemon(true);
+                                                thread.start();
+                                            })
+                                            .exceptionally(e -> {
+                                                System.out.println("Error loading java champions: " + e);
+                                                return List.of();
+                                            })
+                                            .thenApply(champions -> {
+                                                setJavaChampions(champions);
+                                                return champions;
+                                            });
+        }
+        return this.loading;
+    }
+
+    public void setJavaChampions(final List<JavaChampion> champions) {
+        final Map<String, JavaChampion> index = new HashMap<>(champions.size() * 2);
+        champions.forEach(champion -> index.put(createKey(champion.title(), champion.firstName(), champion.lastName()), champion));
+        this.index = Map.copyOf(index);
+        Constants.JAVA_CHAMPIONS.clear();
+        Constants.JAVA_CHAMPIONS.addAll(champions);
+    }
+
+    /**
+     * @return true if there is a java champion with the given title and name (ignoring case), false if not or if the champions are not loaded yet
+     */
+    public boolean isJavaChampion(final String title, final String firstName, final String lastName) {
+        return this.index.containsKey(createKey(title, firstName, lastName));
+    }
+
+
+    // ******************** Private Methods ***********************************
+    private static String createKey(final String title, final String firstName, final String lastName) {
+        return new StringBuilder().append(null == title     ? "" : title.trim().toLowerCase(Locale.ROOT)).append('|')
+                                  .append(null == firstName ? "" : firstName.trim().toLowerCase(Locale.ROOT)).append('|')
+                                  .append(null == lastName  ? "" : lastName.trim().toLowerCase(Locale.ROOT))
+                                  .toString();
+    }
+}
@@ -1,44 +1,229 @@
 package eu.hansolo.fx.conficheck4j.tools;
 
+import javafx.animation.PauseTransition;
+import javafx.application.Platform;
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.ReadOnlyBooleanProperty;
 import javafx.beans.property.SimpleBooleanProperty;
+import javafx.util.Duration;
 
 import java.net.http.HttpResponse;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.List;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
 
+/**
+ * Keeps track of the connectivity. The outcome of real requests (see reportSuccess() and reportFailure())
+ * is used as passive evidence, the probe will only be used if there was no recent evidence. The interval
+ * between two probes starts at PROBE_MIN_INTERVAL_IN_SEC after a transition or when a transition is
+ * suspected (e.g. a failed request) and will be doubled up to PROBE_MAX_INTERVAL_IN_SEC while the state is stable.
+ * Only transitions will be published to the online/offline properties. They are debounced by PUBLISH_DELAY_IN_MS
+ * on the FX application thread, so a flapping connection results in one update with the latest state and a
+ * running probe can't delay the publication.
+ */
 public enum NetworkMonitor {
     INSTANCE;
 
-    private ScheduledExecutorService executorService = Executors.newSingleThreadScheduledExecutor();
-    private BooleanProperty          online          = new SimpleBooleanProperty(true);
-    private BooleanProperty          offline         = new SimpleBooleanProperty(false);
+    private static final long                     MIN_INTERVAL_IN_MS  = TimeUnit.SECONDS.toMillis(Constants.PROBE_MIN_INTERVAL_IN_SEC);
+    private static final long                     MAX_INTERVAL_IN_MS  = TimeUnit.SECONDS.toMillis(Constants.PROBE_MAX_INTERVAL_IN_SEC);
+    private static final long                     PUBLISH_DELAY_IN_MS = 500;
+    private static final int                      EVENT_LOG_SIZE      = 100;
+    private        final ScheduledExecutorService executorService;
+    private        final BooleanProperty          online;
+    private        final BooleanProperty          offline;
+    private        final ArrayDeque<Event>        eventLog;
+    private volatile     Probe                    probe;
+    private volatile     boolean                  reachable;
+    private volatile     long                     lastEvidence;
+    private              long                     intervalInMs;
+    private              ScheduledFuture<?>       scheduledProbe;
+    private              long                     scheduledAt;
+    private              boolean                  publishPending;
+    private              long                     pendingSince;
+    private              PauseTransition          publishTimer;
 
 
     NetworkMonitor() {
-        executorService.scheduleAtFixedRate(() -> ping(), Constants.PING_INTERVAL_IN_SEC, Constants.PING_INTERVAL_IN_SEC, TimeUnit.SECONDS);
+        this.executorService = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "ConfiCheck-NetworkMonitor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.online       = new SimpleBooleanProperty(true);
+        this.offline      = new SimpleBooleanProperty(false);
+        this.eventLog     = new ArrayDeque<>(EVENT_LOG_SIZE);
+        this.probe        = Probe.headRequest(PropertyManager.INSTANCE.hasKey(PropertyManager.PROPERTY_PROBE_URL) ? PropertyManager.INSTANCE.getString(PropertyManager.PROPERTY_PROBE_URL) : Constants.TEST_CONNECTIVITY_URL);
+        this.reachable    = true;
+        this.lastEvidence = 0;
+        // Static fields of an enum are not initialized yet when the constructor runs
+        this.intervalInMs = TimeUnit.SECONDS.toMillis(Constants.PROBE_MIN_INTERVAL_IN_SEC);
+        scheduleProbe(this.intervalInMs);
     }
 
 
-    public boolean isOnline()                       { return online.get(); }
-    public ReadOnlyBooleanProperty onlineProperty() { return online; }
+    /**
+     * @return the latest known state, can be called from any thread and might be ahead of the onlineProperty()
+     */
+    public boolean isOnline()                        { return this.reachable; }
+    /**
+     * @return the published state, will only be changed on the FX application thread
+     */
+    public ReadOnlyBooleanProperty onlineProperty()  { return online; }
 
-    public boolean isOffline() { return offline.get(); }
+    public boolean isOffline()                       { return !this.reachable; }
     public ReadOnlyBooleanProperty offlineProperty() { return offline; }
 
-    private void ping() {
-        HttpResponse<String> response = Helper.httpHeadRequestSync(Constants.TEST_CONNECTIVITY_URL);
-        if (null == response || response.statusCode() > 202 || response.statusCode() < 200) {
-            //System.out.println("Offline");
-            online.set(false);
-            offline.set(true);
-        } else {
-            //System.out.println("Online");
-            online.set(true);
-            offline.set(false);
+    /**
+     * @return the last EVENT_LOG_SIZE detected and published transitions, oldest first
+     */
+    public List<Event> getEventLog() {
+        synchronized (this.eventLog) { return List.copyOf(this.eventLog); }
+    }
+
+    /**
+     * Replaces the probe that will be used if there is no recent evidence of the connectivity
+     * @param probe the probe e.g. Probe.headRequest("https://example.org")
+     */
+    public void setProbe(final Probe probe) {
+        if (null == probe) { throw new IllegalArgumentException("Probe cannot be null"); }
+        this.probe = probe;
+        suspectTransition();
+    }
+
+    /**
+     * Has to be called if a real request got a response (no matter which status code)
+     */
+    public void reportSuccess() {
+        this.lastEvidence = System.nanoTime();
+        if (!this.reachable) { update(true, -1); }
+    }
+
+    /**
+     * Has to be called if a real request failed because the host could not be reached (e.g. IOException).
+     * A single failure won't change the state, but the probe will be run soon to check it.
+     */
+    public void reportFailure() {
+        if (this.reachable) { suspectTransition(); }
+    }
+
+
+    // ******************** Private Methods ***********************************
+    private synchronized void scheduleProbe(final long delayInMs) {
+        final long at = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delayInMs);
+        if (null != this.scheduledProbe && !this.scheduledProbe.isDone()) {
+            if (this.scheduledAt <= at) { return; }
+            this.scheduledProbe.cancel(false);
+        }
+        this.scheduledAt    = at;
+        this.scheduledProbe = this.executorService.schedule(this::probe, delayInMs, TimeUnit.MILLISECONDS);
+    }
+
+    private synchronized void suspectTransition() {
+        this.intervalInMs = MIN_INTERVAL_IN_MS;
+        scheduleProbe(MIN_INTERVAL_IN_MS);
+    }
+
+    private void probe() {
+        // No need to send a probe if a real request got a response within the last interval
+        final long    sinceEvidence = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - this.lastEvidence);
+        final boolean recent        = this.reachable && this.lastEvidence != 0 && sinceEvidence < this.intervalInMs;
+        boolean changed = false;
+        if (!recent) {
+            final long    start     = System.nanoTime();
+            final boolean reachable = this.probe.isReachable();
+            changed = update(reachable, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        }
+        synchronized (this) {
+            this.intervalInMs   = changed ? MIN_INTERVAL_IN_MS : Math.min(MAX_INTERVAL_IN_MS, this.intervalInMs * 2);
+            this.scheduledProbe = null;
+            scheduleProbe(this.intervalInMs);
+        }
+    }
+
+    /**
+     * @param reachable the detected state
+     * @param probeLatencyInMs the time the probe took or -1 if the state was detected by a real request
+     * @return true if the state changed
+     */
+    private synchronized boolean update(final boolean reachable, final long probeLatencyInMs) {
+        if (reachable == this.reachable) { return false; }
+        this.reachable = reachable;
+        log(new Event(Instant.now(), Type.DETECTED, reachable, probeLatencyInMs));
+        this.intervalInMs = MIN_INTERVAL_IN_MS;
+        scheduleProbe(MIN_INTERVAL_IN_MS);
+        // Debounce, further transitions within the delay will be published together
+        if (!this.publishPending) {
+            this.publishPending = true;
+            this.pendingSince   = System.nanoTime();
+            Platform.runLater(this::startPublishTimer);
+        }
+        return true;
+    }
+
+    // Has to be called on the FX application thread
+    private void startPublishTimer() {
+        if (null == this.publishTimer) {
+            this.publishTimer = new PauseTransition(Duration.millis(PUBLISH_DELAY_IN_MS));
+            this.publishTimer.setOnFinished(e -> publish());
+        }
+        this.publishTimer.playFromStart();
+    }
+
+    private void publish() {
+        final boolean reachable;
+        final long    latencyInMs;
+        synchronized (this) {
+            this.publishPending = false;
+            reachable   = this.reachable;
+            latencyInMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - this.pendingSince);
+        }
+        // A flap within the delay ends in the state that has been published already
+        if (reachable == online.get()) { return; }
+        log(new Event(Instant.now(), Type.PUBLISHED, reachable, latencyInMs));
+        online.set(reachable);
+        offline.set(!reachable);
+    }
+
+    private void log(final Event event) {
+        synchronized (this.eventLog) {
+            if (this.eventLog.size() == EVENT_LOG_SIZE) { this.eventLog.removeFirst(); }
+            this.eventLog.addLast(event);
+        }
+    }
+
+
+    // ******************** Inner Classes *************************************
+    public enum Type { DETECTED, PUBLISHED }
+
+    /**
+     * @param timestamp the time of the event
+     * @param type DETECTED by the monitor or PUBLISHED to the properties
+     * @param online the state after the transition
+     * @param latencyInMs DETECTED: the time the probe took or -1 if detected by a real request, PUBLISHED: the time since the first unpublished transition
+     */
+    public record Event(Instant timestamp, Type type, boolean online, long latencyInMs) { }
+
+    /**
+     * Checks whether the network is reachable, will be called on the thread of the monitor
+     */
+    @FunctionalInterface
+    public interface Probe {
+        boolean isReachable();
+
+        /**
+         * @param uri the uri that will be requested
+         * @return a probe that sends a HEAD request to the given uri, every response with a status code in the range 200 - 399 means reachable
+         */
+        static Probe headRequest(final String uri) {
+            return () -> {
+                final HttpResponse<String> response = Helper.httpHeadRequestSync(uri);
+                return null != response && response.statusCode() >= 200 && response.statusCode() < 400;
+            };
         }
     }
 }
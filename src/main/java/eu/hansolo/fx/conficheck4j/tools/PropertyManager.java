@@ -17,9 +17,14 @@ import java.util.Properties;
 public enum PropertyManager {
     INSTANCE;
 
-    public static final String     VERSION_PROPERTIES = "version.properties";
-    public static final String     CONFICHECK         = "conficheck.properties";
-    public static final String     PROPERTY_VERSION   = "version";
+    public static final String     VERSION_PROPERTIES  = "version.properties";
+    public static final String     CONFICHECK          = "conficheck.properties";
+    public static final String     PROPERTY_VERSION    = "version";
+    public static final String     PROPERTY_SAVE_DELAY = "save_delay_ms";
+    public static final String     PROPERTY_FLAG_CACHE = "flag_cache_size";
+    public static final String     PROPERTY_SOFT_FLAGS = "flag_cache_soft_references";
+    public static final String     PROPERTY_PROBE_URL  = "connectivity_probe_url";
+    public static final String     PROPERTY_REFRESH    = "refresh_interval_s";
     private             Properties properties;
     private             Properties versionProperties;
 
@@ -0,0 +1,119 @@
+package eu.hansolo.fx.conficheck4j.tools;
+
+import java.nio.file.Path;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+
+/**
+ * Persists data in the background. Changes only mark the writer dirty, all changes within the
+ * coalescing window will be written with one single write. The snapshot of the data will be taken
+ * by the given snapshot executor (e.g. Platform::runLater for data owned by the FX application thread),
+ * serializing and writing happens on a background thread. Files will be written to a temp file first
+ * and moved to the target afterwards.
+ * @param <T> the type of the snapshot
+ */
+public final class WriteBehindWriter<T> {
+    private static final long                     FLUSH_TIMEOUT_IN_MS = 5_000;
+    private        final Path                     target;
+    private        final Supplier<T>              snapshotSupplier;
+    private        final Function<T, String>      serializer;
+    private        final Executor                 snapshotExecutor;
+    private        final long                     coalescingWindowInMs;
+    private        final ScheduledExecutorService executorService;
+    private        final Consumer<T>              afterWrite;
+    private              ScheduledFuture<?>       scheduledWrite;
+    private              boolean                  dirty;
+
+
+    // ******************** Constructors **************************************
+    /**
+     * @param target the file that will be written
+     * @param snapshotSupplier creates an immutable snapshot of the data, will be called on the snapshot executor
+     * @param serializer converts the snapshot into the text that will be written, will be called on a background thread
+     * @param snapshotExecutor the executor that owns the data (e.g. Platform::runLater)
+     * @param coalescingWindowInMs the time in ms that changes will be collected before they will be written
+     * @param executorService the single threaded executor that will be used to write the file
+     * @param afterWrite will be called with the snapshot on the executor service after it has been written successfully
+     */
+    public WriteBehindWriter(final Path target, final Supplier<T> snapshotSupplier, final Function<T, String> serializer, final Executor snapshotExecutor, final long coalescingWindowInMs, final ScheduledExecutorService executorService, final Consumer<T> afterWrite) {
+        if (null == target || null == snapshotSupplier || null == serializer || null == snapshotExecutor || null == executorService || null == afterWrite) { throw new IllegalArgumentException("Arguments cannot be null"); }
+        this.target               = target;
+        this.snapshotSupplier     = snapshotSupplier;
+        this.serializer           = serializer;
+        this.snapshotExecutor     = snapshotExecutor;
+        this.coalescingWindowInMs = Math.max(0, coalescingWindowInMs);
+        this.executorService      = executorService;
+        this.afterWrite           = afterWrite;
+        this.dirty                = false;
+    }
+
+
+    // ******************** Methods *******************************************
+    /**
+     * Marks the data as changed. The data will be written at the end of the current coalescing window.
+     */
+    public synchronized void markDirty() {
+        this.dirty = true;
+        if (null != this.scheduledWrite) { return; }
+        this.scheduledWrite = this.executorService.schedule(() -> this.snapshotExecutor.execute(this::snapshotAndWrite), this.coalescingWindowInMs, TimeUnit.MILLISECONDS);
+    }
+
+    public synchronized boolean isDirty() { return this.dirty; }
+
+    /**
+     * Writes pending changes right away and waits until all writes are finished.
+     * Has to be called on the thread that owns the data (e.g. in Application.stop()).
+     */
+    public void flush() {
+        final T snapshot;
+        synchronized (this) {
+            if (null != this.scheduledWrite) {
+                this.scheduledWrite.cancel(false);
+                this.scheduledWrite = null;
+            }
+            snapshot   = this.dirty ? this.snapshotSupplier.get() : null;
+            this.dirty = false;
+        }
+        try {
+            this.executorService.submit(() -> { if (null != snapshot) { write(snapshot); } }).get(FLUSH_TIMEOUT_IN_MS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException | ExecutionException | TimeoutException e) {
+            System.out.println("Error flushing " + this.target + ". " + e);
+        }
+    }
+
+
+    // ******************** Private Methods ***********************************
+    private void snapshotAndWrite() {
+        final T snapshot;
+        synchronized (this) {
+            this.scheduledWrite = null;
+            if (!this.dirty) { return; }
+            this.dirty = false;
+            snapshot   = this.snapshotSupplier.get();
+        }
+        this.executorService.execute(() -> write(snapshot));
+    }
+
+    private void write(final T snapshot) {
+        final String text = this.serializer.apply(snapshot);
+        if (null == text || text.isEmpty()) { return; }
+        if (Helper.saveTextFile(text, this.target.toString())) { this.afterWrite.accept(snapshot); }
+    }
+
+    public static ScheduledExecutorService createExecutorService(final String threadName) {
+        return Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, threadName);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
@@ -5,53 +5,102 @@ import eu.hansolo.fx.conficheck4j.data.ConferenceItem;
 import eu.hansolo.fx.conficheck4j.data.ConfiModel;
 import eu.hansolo.fx.conficheck4j.fonts.Fonts;
 import eu.hansolo.fx.conficheck4j.tools.Constants;
+import eu.hansolo.fx.conficheck4j.tools.Helper;
+import eu.hansolo.fx.conficheck4j.tools.IntervalIndex;
+import javafx.animation.PauseTransition;
+import javafx.application.Platform;
 import javafx.beans.DefaultProperty;
+import javafx.collections.MapChangeListener;
 import javafx.collections.ObservableList;
 import javafx.geometry.VPos;
+import javafx.scene.Cursor;
 import javafx.scene.Node;
 import javafx.scene.canvas.Canvas;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.control.ScrollPane;
+import javafx.scene.control.Tooltip;
+import javafx.scene.layout.Pane;
 import javafx.scene.layout.Region;
 import javafx.scene.paint.Color;
 import javafx.scene.text.Font;
 import javafx.scene.text.TextAlignment;
+import javafx.util.Duration;
 
-import java.io.IOException;
-import java.time.Instant;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.time.ZoneId;
-import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
-import java.time.temporal.ChronoField;
+import java.time.format.FormatStyle;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 
 @DefaultProperty("children")
 public class CalendarView extends Region {
-    private static final double            PREFERRED_WIDTH  = 540;
-    private static final double            PREFERRED_HEIGHT = 150;
-    private static final double            MINIMUM_WIDTH    = 400;
-    private static final double            MINIMUM_HEIGHT   = 50;
-    private static final double            MAXIMUM_WIDTH    = 1024;
-    private static final double            MAXIMUM_HEIGHT   = 1024;
-    private              Main              main;
-    private              ConfiModel        model;
-    private              DateTimeFormatter formatter;
-    private              double            width;
-    private              double            height;
-    private              Canvas            canvas;
-    private              GraphicsContext   ctx;
-    private              ScrollPane        scrollPane;
+    private static final double                   PREFERRED_WIDTH  = 540;
+    private static final double                   PREFERRED_HEIGHT = 150;
+    private static final double                   MINIMUM_WIDTH    = 400;
+    private static final double                   MINIMUM_HEIGHT   = 50;
+    private static final double                   MAXIMUM_WIDTH    = 1024;
+    private static final double                   MAXIMUM_HEIGHT   = 1024;
+    private static final int                      WEEKS_BEFORE     = 4;
+    private static final int                      VISIBLE_DAYS     = 16 * 7;
+    private static final double                   CLICK_DELAY_MS   = 300;
+    private              Main                     main;
+    private              ConfiModel               model;
+    private              DateTimeFormatter        formatter;
+    private              DateTimeFormatter        tooltipFormatter;
+    private              double                   width;
+    private              double                   height;
+    private              Pane                     layers;
+    private              Canvas                   gridCanvas;
+    private              Canvas                   barCanvas;
+    private              GraphicsContext          gridCtx;
+    private              GraphicsContext          barCtx;
+    private              ScrollPane               scrollPane;
+    private              double                   gridWidth;
+    private              double                   gridHeight;
+    private              long                     gridFirstDay;
+    private              long                     layoutFirstDay;
+    private              boolean                  layoutDirty;
+    private              boolean                  refreshScheduled;
+    private              List<Bar>                bars;
+    private              int                      noOfLanes;
+    private              IntervalIndex<Span>      spans;
+    private              HitIndex                 hitIndex;
+    private              Tooltip                  tooltip;
+    private              Bar                      hoveredBar;
+    private              ScheduledExecutorService midnightScheduler;
+    private              PauseTransition          clickTimer;
+    private              String                   clickedUrl;
 
 
     // ******************** Constructors **************************************
     public CalendarView(final Main main, final ConfiModel model) {
-        this.main      = main;
-        this.model     = model;
-        this.formatter = DateTimeFormatter.ofPattern("d M");
+        this.main              = main;
+        this.model             = model;
+        this.formatter         = DateTimeFormatter.ofPattern("d M");
+        this.tooltipFormatter  = DateTimeFormatter.ofLocalizedDate(FormatStyle.MEDIUM);
+        this.gridFirstDay      = Long.MIN_VALUE;
+        this.layoutFirstDay    = Long.MIN_VALUE;
+        this.layoutDirty       = true;
+        this.refreshScheduled  = false;
+        this.bars              = List.of();
+        this.noOfLanes         = 0;
+        this.spans             = null;
+        this.hitIndex          = new HitIndex(List.of(), 0, 0, 0, 0);
+        this.hoveredBar        = null;
+        this.midnightScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "ConfiCheck-Calendar");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.clickTimer        = new PauseTransition(Duration.millis(CLICK_DELAY_MS));
+        this.clickedUrl        = null;
         initGraphics();
         registerListeners();
     }
@@ -68,10 +117,16 @@ public class CalendarView extends Region {
         }
         getStyleClass().add("conference-view");
 
-        canvas     = new Canvas(PREFERRED_WIDTH, PREFERRED_HEIGHT);
-        ctx        = canvas.getGraphicsContext2D();
+        // The grid only changes with the size or the day, so it's cached as a bitmap by the scene graph
+        gridCanvas = new Canvas(PREFERRED_WIDTH, PREFERRED_HEIGHT);
+        gridCanvas.setCache(true);
+        gridCtx    = gridCanvas.getGraphicsContext2D();
+        barCanvas  = new Canvas(PREFERRED_WIDTH, PREFERRED_HEIGHT);
+        barCtx     = barCanvas.getGraphicsContext2D();
+        layers     = new Pane(gridCanvas, barCanvas);
+        tooltip    = new Tooltip();
         scrollPane = new ScrollPane();
-        scrollPane.setContent(canvas);
+        scrollPane.setContent(layers);
         scrollPane.setVbarPolicy(ScrollPane.ScrollBarPolicy.NEVER);
         scrollPane.setHbarPolicy(ScrollPane.ScrollBarPolicy.NEVER);
         scrollPane.setMaxHeight(630);
@@ -85,9 +140,37 @@ public class CalendarView extends Region {
         heightProperty().addListener(o -> resize());
         setOnMouseClicked(e -> {
             if (e.getClickCount() == 2) {
+                // A double click on a bar must not open its url
+                clickTimer.stop();
                 scrollPane.setHvalue(0.25);
             }
         });
+        clickTimer.setOnFinished(e -> {
+            if (null != clickedUrl) { Helper.openUrlInExternalBrowser(main, clickedUrl); }
+            clickedUrl = null;
+        });
+        barCanvas.setOnMouseMoved(e -> hover(hitIndex.find(e.getX(), e.getY()), e.getScreenX(), e.getScreenY()));
+        barCanvas.setOnMouseExited(e -> hover(null, 0, 0));
+        // The url will be opened after CLICK_DELAY_MS if the click doesn't become a double click
+        barCanvas.setOnMouseClicked(e -> {
+            if (e.getClickCount() != 1 || !e.isStillSincePress()) { return; }
+            final Bar bar = hitIndex.find(e.getX(), e.getY());
+            if (null == bar || bar.conference().getUrl().isEmpty()) { return; }
+            clickedUrl = bar.conference().getUrl();
+            clickTimer.playFromStart();
+        });
+        // The window and the today line depend on the day, so they have to move on at midnight
+        scheduleMidnightRedraw();
+        // The months will be rebuilt entry by entry, so all changes of one update will be handled at once
+        model.conferencesPerMonth.addListener((MapChangeListener<Integer, List<ConferenceItem>>) change -> {
+            layoutDirty = true;
+            if (refreshScheduled) { return; }
+            refreshScheduled = true;
+            Platform.runLater(() -> {
+                refreshScheduled = false;
+                redraw();
+            });
+        });
     }
 
 
@@ -103,14 +186,65 @@ public class CalendarView extends Region {
 
     public void setToInitialPosition() { scrollPane.setHvalue(0.25); }
 
-    private void openUrlInExternalBrowser(final String url) {
-        if (this.model.networkMonitor.isOnline()) {
-            try {
-                new ProcessBuilder("x-www-browser", url).start();
-            } catch (IOException ex) {
-                this.main.getHostServices().showDocument(url);
+    private void hover(final Bar bar, final double screenX, final double screenY) {
+        if (bar == hoveredBar) { return; }
+        hoveredBar = bar;
+        if (null == bar) {
+            barCanvas.setCursor(Cursor.DEFAULT);
+            tooltip.hide();
+        } else {
+            final ConferenceItem conference = bar.conference();
+            final LocalDate      date       = LocalDate.ofInstant(conference.getDate(), ZoneId.systemDefault());
+            tooltip.setText(conference.getName() + "\n" + conference.getCity() + ", " + conference.getCountry() + "\n" + tooltipFormatter.format(date) + " (" + (int) Math.max(1, Math.ceil(conference.getDays())) + (conference.getDays() > 1 ? " days)" : " day)"));
+            barCanvas.setCursor(Cursor.HAND);
+            tooltip.show(barCanvas, screenX + 12, screenY + 12);
+        }
+    }
+
+    private void scheduleMidnightRedraw() {
+        final ZonedDateTime now      = ZonedDateTime.now();
+        final ZonedDateTime midnight = now.toLocalDate().plusDays(1).atStartOfDay(now.getZone());
+        // A one shot task instead of an animation, a running animation would keep the pulse going until midnight
+        midnightScheduler.schedule(() -> Platform.runLater(() -> {
+            redraw();
+            scheduleMidnightRedraw();
+        }), ChronoUnit.MILLIS.between(now, midnight) + 1_000, TimeUnit.MILLISECONDS);
+    }
+
+    // Indexes the days of all conferences as [start, start + days) in epoch days
+    private void indexConferences() {
+        final ZoneId     zoneId = ZoneId.systemDefault();
+        final List<Span> list   = new ArrayList<>();
+        for (final List<ConferenceItem> conferences : this.model.conferencesPerMonth.values()) {
+            for (final ConferenceItem conference : conferences) {
+                final long startDay = LocalDate.ofInstant(conference.getDate(), zoneId).toEpochDay();
+                list.add(new Span(conference, startDay, startDay + Math.max(1, (int) Math.ceil(conference.getDays()))));
             }
         }
+        this.spans             = new IntervalIndex<>(list, Span::startDay, Span::endDay);
+    }
+
+    /**
+     * Assigns the conferences that are active in the visible window to lanes. Only depends on the days,
+     * so it has to be done only if the conferences or the day changed but not if the view was resized.
+     * The conferences are packed greedily in order of their start day, each one takes the first lane
+     * that is free again, so overlapping conferences never share a lane and the number of lanes is
+     * the maximum number of conferences on one day.
+     */
+    private void layoutBars(final long firstDay) {
+        if (layoutDirty || null == spans) { indexConferences(); }
+        final List<Bar>  newBars  = new ArrayList<>();
+        final List<Long> laneEnds = new ArrayList<>();
+        spans.query(firstDay, firstDay + VISIBLE_DAYS, span -> {
+            int lane = 0;
+            while (lane < laneEnds.size() && laneEnds.get(lane) > span.startDay()) { lane++; }
+            if (lane == laneEnds.size()) { laneEnds.add(span.endDay()); } else { laneEnds.set(lane, span.endDay()); }
+            newBars.add(new Bar(span.conference(), (int) (span.startDay() - firstDay), span.conference().getDays(), lane));
+        });
+        this.bars              = newBars;
+        this.noOfLanes         = laneEnds.size();
+        this.layoutFirstDay    = firstDay;
+        this.layoutDirty       = false;
     }
 
 
@@ -120,8 +254,11 @@ public class CalendarView extends Region {
         height = getHeight() - getInsets().getTop() - getInsets().getBottom();
 
         if (width > 0 && height > 0) {
-            canvas.setWidth(width / 4.0 * 16.0);
-            canvas.setHeight(height);
+            final double canvasWidth = width / 4.0 * 16.0;
+            gridCanvas.setWidth(canvasWidth);
+            gridCanvas.setHeight(height);
+            barCanvas.setWidth(canvasWidth);
+            barCanvas.setHeight(height);
             scrollPane.setPrefSize(width, height);
             scrollPane.relocate((getWidth() - width) * 0.5, (getHeight() - height) * 0.5);
             redraw();
@@ -129,82 +266,169 @@ public class CalendarView extends Region {
     }
 
     private void redraw() {
-        final Color  fgdColor            = Constants.BLACK;
-        final double width               = canvas.getWidth();
-        final double height              = canvas.getHeight();
-        final double scaleXFontSize      = height * 0.08;
-        final Font   scaleXFont          = Fonts.avenirNextLtProRegular(scaleXFontSize);
-        final double topY                = scaleXFontSize * 1.8;
-        final int    numberOfVisibleDays = 16 * 7;
-        final double tickStepX           = width / numberOfVisibleDays;
-        final long   minDate             = LocalDate.now().atStartOfDay().toEpochSecond(ZoneId.systemDefault().getRules().getOffset(LocalDateTime.now())) - (Constants.SECONDS_PER_WEEK * 4);
-        final double fourWeeks           = 28 * tickStepX;
-        int maxNoOfConferencesPerMonth = 0;
-        for (final List<ConferenceItem> conferences : this.model.conferencesPerMonth.values()) {
-            maxNoOfConferencesPerMonth = Math.max(conferences.size(), maxNoOfConferencesPerMonth);
-        }
+        final double width    = barCanvas.getWidth();
+        final double height   = barCanvas.getHeight();
+        final long   firstDay = LocalDate.now().toEpochDay() - WEEKS_BEFORE * 7;
+        if (width != gridWidth || height != gridHeight || firstDay != gridFirstDay) { drawGrid(firstDay); }
+        if (layoutDirty || firstDay != layoutFirstDay) { layoutBars(firstDay); }
+        drawBars();
+    }
 
-        final double availableHeight = height - topY;
-        final double scaleY          = availableHeight / maxNoOfConferencesPerMonth; //Helper.clamp(2, 10, availableHeight / maxNoOfConferencesPerMonth);
-        final double rectOffsetY     = scaleY * 0.1;
-        final double rectHeight      = scaleY * 0.8;
-        final double valueFontSize   = scaleY;
-        final Font   valueFont       = Fonts.avenirNextLtProRegular(valueFontSize);
+    private void drawGrid(final long firstDay) {
+        final Color  fgdColor       = Constants.BLACK;
+        final double width          = gridCanvas.getWidth();
+        final double height         = gridCanvas.getHeight();
+        final double scaleXFontSize = height * 0.08;
+        final Font   scaleXFont     = Fonts.avenirNextLtProRegular(scaleXFontSize);
+        final double topY           = scaleXFontSize * 1.8;
+        final double tickStepX      = width / VISIBLE_DAYS;
+        final int    today          = WEEKS_BEFORE * 7;
 
-        ctx.clearRect(0, 0, width, height);
+        gridCtx.clearRect(0, 0, width, height);
         // Draw the top xAxis
-        ctx.setStroke(Constants.GRAY);
-        ctx.strokeLine(0, topY, width, topY);
-
-        for (int n = 0 ; n < numberOfVisibleDays ; n++) {
-            final ZonedDateTime date      = ZonedDateTime.ofInstant(Instant.ofEpochSecond(minDate + n * Constants.SECONDS_PER_DAY), ZoneId.systemDefault());
-            final int           day       = date.get(ChronoField.DAY_OF_MONTH);
-            final double        x         = n * tickStepX;
-            final boolean       isToday   = (int) x == (int) fourWeeks;
-            final double        lineWidth = day == 1 ? 1.0 : isToday ? 0.5 : 0.25;
-            ctx.setStroke(isToday ? Constants.RED : Constants.GRAY);
-            ctx.setLineWidth(lineWidth);
-            ctx.strokeLine(x, topY, x, topY + availableHeight);
-
-            if (n % 3 == 0 && n != 0 && n != numberOfVisibleDays - 1) {
-                ctx.setFont(scaleXFont);
-                ctx.setTextAlign(TextAlignment.CENTER);
-                ctx.setTextBaseline(VPos.CENTER);
-                ctx.setFill(fgdColor);
-                ctx.fillText(formatter.format(date), x, topY * 0.5);
+        gridCtx.setStroke(Constants.GRAY);
+        gridCtx.strokeLine(0, topY, width, topY);
+
+        gridCtx.setFont(scaleXFont);
+        gridCtx.setTextAlign(TextAlignment.CENTER);
+        gridCtx.setTextBaseline(VPos.CENTER);
+        gridCtx.setFill(fgdColor);
+        for (int n = 0 ; n < VISIBLE_DAYS ; n++) {
+            final LocalDate date      = LocalDate.ofEpochDay(firstDay + n);
+            final double    x         = n * tickStepX;
+            final boolean   isToday   = n == today;
+            final double    lineWidth = date.getDayOfMonth() == 1 ? 1.0 : isToday ? 0.5 : 0.25;
+            gridCtx.setStroke(isToday ? Constants.RED : Constants.GRAY);
+            gridCtx.setLineWidth(lineWidth);
+            gridCtx.strokeLine(x, topY, x, height);
+
+            if (n % 3 == 0 && n != 0 && n != VISIBLE_DAYS - 1) {
+                gridCtx.fillText(formatter.format(date), x, topY * 0.5);
+            }
+        }
+        gridWidth    = width;
+        gridHeight   = height;
+        gridFirstDay = firstDay;
+    }
+
+    private void drawBars() {
+        final Color  fgdColor  = Constants.BLACK;
+        final double width     = barCanvas.getWidth();
+        final double height    = barCanvas.getHeight();
+        final double topY      = height * 0.08 * 1.8;
+        final double tickStepX = width / VISIBLE_DAYS;
+
+        barCtx.clearRect(0, 0, width, height);
+        hover(null, 0, 0);
+        if (bars.isEmpty()) {
+            hitIndex = new HitIndex(List.of(), 0, 0, 0, 0);
+            return;
+        }
+
+        final double scaleY      = (height - topY) / noOfLanes;
+        final double rectOffsetY = scaleY * 0.1;
+        final double rectHeight  = scaleY * 0.8;
+        final Font   valueFont   = Fonts.avenirNextLtProRegular(scaleY);
+
+        barCtx.setTextAlign(TextAlignment.LEFT);
+        barCtx.setTextBaseline(VPos.CENTER);
+        barCtx.setFont(valueFont);
+        for (final Bar bar : bars) {
+            final double x      = bar.start() * tickStepX;
+            final double y      = topY + bar.lane() * scaleY;
+            final double length = tickStepX * bar.days();
+            final Color fillColor;
+            switch (bar.conference().getAttendence()) {
+                case  ATTENDING -> fillColor = Constants.ORANGE;
+                case  SPEAKING  -> fillColor = Constants.GREEN;
+                default         -> fillColor = Constants.PURPLE;
+            }
+            barCtx.setFill(fillColor);
+            barCtx.fillRect(x, y + rectOffsetY, length, rectHeight);
+
+            barCtx.setFill(fgdColor);
+            barCtx.fillText(bar.conference().getName(), x + length + 0.5, y + scaleY * 0.5);
+        }
+        hitIndex = new HitIndex(bars, noOfLanes, tickStepX, topY, scaleY);
+    }
+
+
+    // ******************** Inner Classes *************************************
+    /**
+     * The days of a conference in epoch days
+     * @param conference the conference
+     * @param startDay the first day (inclusive)
+     * @param endDay the last day (exclusive)
+     */
+    private record Span(ConferenceItem conference, long startDay, long endDay) { }
+
+    /**
+     * A conference bar in the calendar
+     * @param conference the conference
+     * @param start the index of the first day in the visible window (negative if it started before)
+     * @param days the number of days
+     * @param lane the lane (row) of the bar
+     */
+    private record Bar(ConferenceItem conference, int start, double days, int lane) { }
+
+    /**
+     * Spatial index of the drawn bars. The lane follows directly from the y coordinate and the bars of
+     * one lane don't overlap and are sorted by their x coordinate, so a bar can be found by a binary
+     * search in O(log n).
+     */
+    private static final class HitIndex {
+        private final double     topY;
+        private final double     scaleY;
+        private final Bar[][]    lanes;
+        private final double[][] minXs;
+        private final double[][] maxXs;
+
+
+        HitIndex(final List<Bar> bars, final int noOfLanes, final double tickStepX, final double topY, final double scaleY) {
+            this.topY   = topY;
+            this.scaleY = scaleY;
+            this.lanes  = new Bar[noOfLanes][];
+            this.minXs  = new double[noOfLanes][];
+            this.maxXs  = new double[noOfLanes][];
+            final int[] counts = new int[noOfLanes];
+            bars.forEach(bar -> counts[bar.lane()]++);
+            for (int lane = 0 ; lane < noOfLanes ; lane++) {
+                this.lanes[lane] = new Bar[counts[lane]];
+                this.minXs[lane] = new double[counts[lane]];
+                this.maxXs[lane] = new double[counts[lane]];
+                counts[lane]     = 0;
+            }
+            // The bars are sorted by their start, so each lane will be sorted too
+            for (final Bar bar : bars) {
+                final int lane  = bar.lane();
+                final int index = counts[lane]++;
+                this.lanes[lane][index] = bar;
+                this.minXs[lane][index] = bar.start() * tickStepX;
+                this.maxXs[lane][index] = (bar.start() + bar.days()) * tickStepX;
             }
+        }
+
 
-            final int  month      = date.getMonth().getValue();
-            final long startOfDay = date.toLocalDate().atStartOfDay().toEpochSecond(ZoneId.systemDefault().getRules().getOffset(date.toLocalDateTime()));
-            int  confCount  = 0;
-            if (this.model.conferencesPerMonth.isEmpty()) { return; }
-
-            for (final ConferenceItem conference : this.model.conferencesPerMonth.get(month)) {
-                ZonedDateTime d = ZonedDateTime.ofInstant(conference.getDate(), ZoneId.systemDefault());
-                final long   startDate = d.toLocalDate().atStartOfDay().toEpochSecond(ZoneOffset.systemDefault().getRules().getOffset(d.toLocalDateTime()));
-                final double length    = tickStepX * conference.getDays();
-                //System.out.println(startDate + " >= " + startDate + " && " + (startOfDay + Constants.SECONDS_PER_DAY) + " <= " + (startOfDay + Constants.SECONDS_PER_DAY));
-                if (startDate >= startOfDay && startDate + Constants.SECONDS_PER_DAY <= startOfDay + Constants.SECONDS_PER_DAY) {
-                    Color fillColor;
-                    switch (conference.getAttendence()) {
-                        case  ATTENDING -> fillColor = Constants.ORANGE;
-                        case  SPEAKING  -> fillColor = Constants.GREEN;
-                        default         -> fillColor = Constants.PURPLE;
-                    }
-                    final double y = topY + confCount * scaleY;
-                    ctx.setFill(fillColor);
-                    ctx.beginPath();
-                    ctx.rect(x, y + rectOffsetY, length, rectHeight);
-                    ctx.closePath();
-                    ctx.fill();
-
-                    ctx.setTextAlign(TextAlignment.LEFT);
-                    ctx.setFont(valueFont);
-                    ctx.setFill(fgdColor);
-                    ctx.fillText(conference.getName(), x + length + 0.5, y + scaleY * 0.5);
+        /**
+         * @return the bar at the given position in canvas coordinates or null if there is none
+         */
+        Bar find(final double x, final double y) {
+            if (this.scaleY <= 0 || y < this.topY) { return null; }
+            final int lane = (int) ((y - this.topY) / this.scaleY);
+            if (lane >= this.lanes.length) { return null; }
+            final double[] minX = this.minXs[lane];
+            // Find the last bar that starts at or before x
+            int lo = 0, hi = minX.length - 1, found = -1;
+            while (lo <= hi) {
+                final int mid = (lo + hi) >>> 1;
+                if (minX[mid] <= x) {
+                    found = mid;
+                    lo    = mid + 1;
+                } else {
+                    hi = mid - 1;
                 }
-                confCount += 1.0;
             }
+            return found >= 0 && x <= this.maxXs[lane][found] ? this.lanes[lane][found] : null;
         }
     }
 }
@@ -0,0 +1,251 @@
+package eu.hansolo.fx.conficheck4j.views;
+
+import eu.hansolo.fx.conficheck4j.Main;
+import eu.hansolo.fx.conficheck4j.data.ConferenceItem;
+import eu.hansolo.fx.conficheck4j.data.ConfiModel;
+import eu.hansolo.fx.conficheck4j.fonts.Fonts;
+import eu.hansolo.fx.conficheck4j.tools.Constants;
+import javafx.beans.DefaultProperty;
+import javafx.collections.ObservableList;
+import javafx.geometry.Pos;
+import javafx.scene.Node;
+import javafx.scene.control.Label;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Region;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+
+/**
+ * Shows the conferences grouped by month in a virtualized list. Only the visible rows
+ * will be materialized and the cells (incl. their ConferenceView) will be recycled while
+ * scrolling, so the size of the scene graph doesn't depend on the number of conferences.
+ */
+@DefaultProperty("children")
+public class ConferenceListView extends Region {
+    private static final double                              PREFERRED_WIDTH  = 540;
+    private static final double                              PREFERRED_HEIGHT = 325;
+    private static final double                              MINIMUM_WIDTH    = 400;
+    private static final double                              MINIMUM_HEIGHT   = 50;
+    private static final double                              MAXIMUM_WIDTH    = 4096;
+    private static final double                              MAXIMUM_HEIGHT   = 4096;
+    private              Main                                main;
+    private              ConfiModel                          model;
+    private              Map<Integer, List<ConferenceItem>>  conferencesPerMonth;
+    private              Set<Integer>                        expandedMonths;
+    private              double                              width;
+    private              double                              height;
+    private              ListView<Row>                       listView;
+
+
+    // ******************** Constructors **************************************
+    public ConferenceListView(final Main main, final ConfiModel model) {
+        this.main                = main;
+        this.model               = model;
+        this.conferencesPerMonth = Map.of();
+        this.expandedMonths      = new HashSet<>();
+        initGraphics();
+        registerListeners();
+    }
+
+
+    // ******************** Initialization ************************************
+    private void initGraphics() {
+        if (Double.compare(getPrefWidth(), 0.0) <= 0 || Double.compare(getPrefHeight(), 0.0) <= 0 || Double.compare(getWidth(), 0.0) <= 0 || Double.compare(getHeight(), 0.0) <= 0) {
+            if (getPrefWidth() > 0 && getPrefHeight() > 0) {
+                setPrefSize(getPrefWidth(), getPrefHeight());
+            } else {
+                setPrefSize(PREFERRED_WIDTH, PREFERRED_HEIGHT);
+            }
+        }
+        getStyleClass().add("conference-list-view");
+
+        listView = new ListView<>();
+        listView.setCellFactory(_ -> new ConferenceCell());
+        listView.setFocusTraversable(false);
+
+        getChildren().setAll(listView);
+    }
+
+    private void registerListeners() {
+        widthProperty().addListener(o -> resize());
+        heightProperty().addListener(o -> resize());
+    }
+
+
+    // ******************** Methods *******************************************
+    @Override protected double computeMinWidth(final double height) { return MINIMUM_WIDTH; }
+    @Override protected double computeMinHeight(final double width)  { return MINIMUM_HEIGHT; }
+    @Override protected double computePrefWidth(final double height) { return super.computePrefWidth(height); }
+    @Override protected double computePrefHeight(final double width) { return super.computePrefHeight(width); }
+    @Override protected double computeMaxWidth(final double height)  { return MAXIMUM_WIDTH; }
+    @Override protected double computeMaxHeight(final double width)  { return MAXIMUM_HEIGHT; }
+
+    @Override public ObservableList<Node> getChildren() { return super.getChildren(); }
+
+    /**
+     * Sets the conferences per month that should be shown together with the months that should be expanded.
+     * Only the rows that changed will be replaced in the underlying list.
+     * @param conferencesPerMonth the conferences per month (1 - 12)
+     * @param expandedMonths the months that should be expanded
+     */
+    public void setConferences(final Map<Integer, List<ConferenceItem>> conferencesPerMonth, final Set<Integer> expandedMonths) {
+        this.conferencesPerMonth = Map.copyOf(conferencesPerMonth);
+        this.expandedMonths      = new HashSet<>(expandedMonths);
+        updateRows();
+    }
+
+    /**
+     * Sets the conferences per month that should be shown, the months that are expanded stay expanded.
+     * Only the rows that changed will be replaced in the underlying list.
+     * @param conferencesPerMonth the conferences per month (1 - 12)
+     */
+    public void setConferences(final Map<Integer, List<ConferenceItem>> conferencesPerMonth) {
+        this.conferencesPerMonth = Map.copyOf(conferencesPerMonth);
+        updateRows();
+    }
+
+    /**
+     * Redraws the visible cells, e.g. after the data of the shown conferences has been updated.
+     */
+    public void refresh() { listView.refresh(); }
+
+    private void toggleMonth(final int month) {
+        if (!this.expandedMonths.remove(month)) { this.expandedMonths.add(month); }
+        updateRows();
+    }
+
+    private void updateRows() {
+        final List<Integer> months = new ArrayList<>(this.conferencesPerMonth.keySet());
+        Collections.sort(months);
+        final List<Row> rows = new ArrayList<>();
+        for (final Integer month : months) {
+            final List<ConferenceItem> conferencesInMonth = this.conferencesPerMonth.get(month);
+            final boolean              expanded           = this.expandedMonths.contains(month);
+            rows.add(new Row(month, conferencesInMonth.size(), expanded, null));
+            // The count is only shown in the header, so conference rows stay equal if the month gets more or less conferences
+            if (expanded) { conferencesInMonth.forEach(conference -> rows.add(new Row(month, 0, true, conference))); }
+        }
+        applyDelta(listView.getItems(), rows);
+    }
+
+    /**
+     * Brings the given items in line with the target list by only removing the rows that left
+     * and inserting the rows that entered, rows that stay will not be touched. Consecutive entering
+     * rows will be inserted at once. If the staying rows changed their order the list will be replaced.
+     */
+    private static <T> void applyDelta(final ObservableList<T> items, final List<T> target) {
+        if (items.equals(target)) { return; }
+        final Map<T, Integer> targetIndex = new HashMap<>(target.size() * 2);
+        for (int i = 0 ; i < target.size() ; i++) { targetIndex.put(target.get(i), i); }
+        items.removeIf(item -> !targetIndex.containsKey(item));
+
+        int last = -1;
+        for (final T item : items) {
+            final int index = targetIndex.get(item);
+            if (index < last) {
+                items.setAll(target);
+                return;
+            }
+            last = index;
+        }
+
+        int i = 0;
+        while (i < target.size()) {
+            if (i < items.size() && items.get(i).equals(target.get(i))) {
+                i++;
+                continue;
+            }
+            // Collect the entering rows up to the next staying row (or the end)
+            final int start = i;
+            final T   next  = start < items.size() ? items.get(start) : null;
+            while (i < target.size() && !target.get(i).equals(next)) { i++; }
+            items.addAll(start, target.subList(start, i));
+        }
+    }
+
+
+    // ******************** Layout *******************************************
+    private void resize() {
+        width  = getWidth() - getInsets().getLeft() - getInsets().getRight();
+        height = getHeight() - getInsets().getTop() - getInsets().getBottom();
+
+        if (width > 0 && height > 0) {
+            listView.setPrefSize(width, height);
+            listView.relocate((getWidth() - width) * 0.5, (getHeight() - height) * 0.5);
+        }
+    }
+
+
+    // ******************** Internal Classes **********************************
+    /**
+     * Either a month header (conference == null) or a conference within a month
+     */
+    private record Row(int month, int count, boolean expanded, ConferenceItem conference) {
+        boolean isHeader() { return null == conference; }
+    }
+
+    private class ConferenceCell extends ListCell<Row> {
+        private HBox           header;
+        private Region         arrow;
+        private Label          headerLabel;
+        private ConferenceView conferenceView;
+
+
+        ConferenceCell() {
+            setPrefWidth(0);
+            getStyleClass().add("conference-cell");
+        }
+
+
+        @Override protected void updateItem(final Row row, final boolean empty) {
+            super.updateItem(row, empty);
+            setText(null);
+            if (empty || null == row) {
+                releaseConferenceView();
+                setGraphic(null);
+            } else if (row.isHeader()) {
+                releaseConferenceView();
+                if (null == header) { initHeader(); }
+                headerLabel.setText(Constants.MONTHS[row.month() - 1] + " (" + row.count() + ")");
+                arrow.setRotate(row.expanded() ? 90 : 0);
+                setGraphic(header);
+            } else {
+                if (null == conferenceView) {
+                    conferenceView = new ConferenceView(main, model, row.conference(), model.allProposals);
+                } else {
+                    conferenceView.setConference(row.conference());
+                }
+                setGraphic(conferenceView);
+            }
+        }
+
+        // Detaches the cached view from its conference, otherwise the conference would keep updating a view that is not shown
+        private void releaseConferenceView() {
+            if (null != conferenceView) { conferenceView.setConference(null); }
+        }
+
+        private void initHeader() {
+            arrow = new Region();
+            arrow.getStyleClass().add("month-header-arrow");
+
+            headerLabel = new Label();
+            headerLabel.setFont(Fonts.avenirNextLtProMedium(Constants.STD_FONT_SIZE));
+
+            header = new HBox(5, arrow, headerLabel);
+            header.getStyleClass().add("month-header");
+            header.setAlignment(Pos.CENTER_LEFT);
+            header.setOnMouseClicked(e -> {
+                if (null != getItem() && getItem().isHeader()) { toggleMonth(getItem().month()); }
+            });
+        }
+    }
+}
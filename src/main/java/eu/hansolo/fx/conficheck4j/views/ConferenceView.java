@@ -14,6 +14,7 @@ import eu.hansolo.fx.conficheck4j.tools.Helper;
 import eu.hansolo.fx.conficheck4j.tools.IsoCountryCodes;
 import eu.hansolo.fx.conficheck4j.tools.IsoCountryInfo;
 import javafx.beans.DefaultProperty;
+import javafx.beans.InvalidationListener;
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.IntegerProperty;
 import javafx.beans.property.ObjectProperty;
@@ -22,10 +23,10 @@ import javafx.beans.property.SimpleBooleanProperty;
 import javafx.beans.property.SimpleIntegerProperty;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.beans.property.StringProperty;
-import javafx.collections.MapChangeListener;
 import javafx.geometry.Orientation;
 import javafx.geometry.Pos;
 import javafx.geometry.Insets;
+import javafx.scene.Node;
 import javafx.scene.control.Button;
 import javafx.scene.control.ComboBox;
 import javafx.scene.control.ContextMenu;
@@ -35,7 +36,6 @@ import javafx.scene.control.MenuButton;
 import javafx.scene.control.MenuItem;
 import javafx.scene.control.Separator;
 import javafx.scene.control.Tooltip;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.input.MouseEvent;
 import javafx.scene.layout.Background;
@@ -49,15 +49,13 @@ import javafx.scene.text.Text;
 import javafx.scene.text.TextAlignment;
 import javafx.util.StringConverter;
 
-import java.io.IOException;
-import java.time.Instant;
+import java.time.LocalDate;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.FormatStyle;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 import java.util.UUID;
 
 
@@ -93,6 +91,21 @@ public class ConferenceView extends Region {
     private              double                         width;
     private              double                         height;
     private              VBox                           vBox;
+    private              Text                           conferenceName;
+    private              ImageView                      flagImage;
+    private              Text                           daysText;
+    private              Text                           cityText;
+    private              Text                           countryText;
+    private              Label                          webText;
+    private              Button                         urlButton;
+    private              Button                         mapButton;
+    private              Label                          cfpText;
+    private              Button                         cfpUrlButton;
+    private              Label                          cfpDateLabel;
+    private              ComboBox<AttendingStatus>      attendenceComboBox;
+    private              VBox                           proposedSessions;
+    private              ConferenceItem                 boundConference;
+    private              InvalidationListener           proposalsListener;
 
 
     // ******************** Constructors **************************************
@@ -100,7 +113,7 @@ public class ConferenceView extends Region {
         this.main                     = main;
         this.model                    = model;
         this.conference               = new ObjectPropertyBase<>(conference) {
-            @Override protected void invalidated() { }
+            @Override protected void invalidated() { bind(get()); }
             @Override public Object getBean()      { return ConferenceView.this; }
             @Override public String getName()      { return "conference"; }
         };
@@ -113,12 +126,11 @@ public class ConferenceView extends Region {
         this.id                       = UUID.randomUUID().toString();
         this.formatter                = DateTimeFormatter.ofPattern("dd MMMM");
         this.df                       = DateTimeFormatter.ofLocalizedDate(FormatStyle.MEDIUM);
-        this.isoInfo                  = IsoCountryCodes.searchByName(this.conference.get().getCountry()).orElse(null);
-        this.flag                     = null == this.isoInfo ? Flag.NOT_FOUND : this.isoInfo.getFlag();
         this.hoverBackground          = new Background(new BackgroundFill(Color.color(0.95, 0.95, 0.95), CornerRadii.EMPTY, Insets.EMPTY));
 
         initGraphics();
         registerListeners();
+        bind(conference);
     }
 
 
@@ -134,17 +146,11 @@ public class ConferenceView extends Region {
         getStyleClass().add("conference-view");
 
         // Conference Name
-        Text conferenceName = new Text(conference.get().getName());
+        conferenceName = new Text();
         conferenceName.setFont(Fonts.avenirNextLtProMedium(16));
 
         // Country Flag
-        Image flag;
-        if (this.isoInfo == null) {
-            flag = Flag.NOT_FOUND.getImage(); // Replace with network image
-        } else {
-            flag = this.isoInfo.getFlag().getImage(22);
-        }
-        ImageView flagImage = new ImageView(flag);
+        flagImage = new ImageView();
         flagImage.setFitWidth(20);
         flagImage.setFitHeight(20);
 
@@ -152,22 +158,16 @@ public class ConferenceView extends Region {
         conferenceNameHBox.setAlignment(Pos.CENTER);
 
         // Conference Date
-        Text daysText;
-        ZonedDateTime date = ZonedDateTime.ofInstant(this.conference.get().getDate(), ZoneId.systemDefault());
-        if (this.conference.get().getDays() > 1) {
-            daysText = new Text(this.formatter.format(date) + " (" + String.format("%.0f", this.conference.get().getDays()) + " days)");
-        } else {
-            daysText = new Text(this.formatter.format(date));
-        }
+        daysText = new Text();
         daysText.setFont(Fonts.avenirNextLtProRegular(12));
 
         // City Name
-        Text cityText = new Text(this.conference.get().getCity() + ((this.isoInfo != null ? this.isoInfo.name() : this.conference.get().getCountry()).isBlank() ? "" : ","));
+        cityText = new Text();
         cityText.setFont(Fonts.avenirNextLtProRegular(12));
         cityText.setFill(Helper.getSecondaryColor());
 
         // Country Name
-        Text countryText = new Text(this.isoInfo != null ? this.isoInfo.name() : this.conference.get().getCountry());
+        countryText = new Text();
         countryText.setFont(Fonts.avenirNextLtProRegular(12));
         countryText.setFill(Helper.getSecondaryColor());
 
@@ -175,83 +175,61 @@ public class ConferenceView extends Region {
         conferenceDateHBox.setAlignment(Pos.CENTER);
 
         // Link to website
-        HBox urlAndMapHBox = new HBox(5);
+        webText = new Label("WEB");
+        webText.setMinWidth(28);
+        webText.setFont(Fonts.avenirNextLtProRegular(12));
+
+        Region urlIcon = new Region();
+        urlIcon.getStyleClass().add("url-icon");
+        urlIcon.setFocusTraversable(false);
+        urlIcon.setMinSize(16, 16);
+        urlIcon.setMaxSize(16, 16);
+        urlIcon.setPrefSize(16, 16);
+
+        urlButton = Factory.createButton("", "Open conference website in default browser", 12);
+        urlButton.setGraphic(urlIcon);
+        urlButton.setOnAction(e -> Helper.openUrlInExternalBrowser(this.main, this.conference.get().getUrl()));
+        urlButton.disableProperty().bind(this.model.networkMonitor.offlineProperty());
+
+        Region mapIcon = new Region();
+        mapIcon.getStyleClass().add("map-icon");
+        mapIcon.setFocusTraversable(false);
+        mapIcon.setMinSize(16, 16);
+        mapIcon.setMaxSize(16, 16);
+        mapIcon.setPrefSize(16, 16);
+
+        mapButton = Factory.createButton("", "Open conference location in google maps in default browser", 12);
+        mapButton.setGraphic(mapIcon);
+        mapButton.setOnAction(e -> Helper.openUrlInExternalBrowser(this.main, "https://www.google.com/maps/search/?api=1&query=" + conference.get().getLat().get() + "," + conference.get().getLon().get()));
+        mapButton.disableProperty().bind(this.model.networkMonitor.offlineProperty());
+
+        HBox urlAndMapHBox = new HBox(5, webText, urlButton, Factory.createSpacer(Orientation.HORIZONTAL), mapButton);
         urlAndMapHBox.setAlignment(Pos.CENTER);
-        if (!this.conference.get().getUrl().isEmpty()) {
-            Label webText = new Label("WEB");
-            webText.setMinWidth(28);
-            webText.setFont(Fonts.avenirNextLtProRegular(12));
-
-            Region urlIcon = new Region();
-            urlIcon.getStyleClass().add("url-icon");
-            urlIcon.setFocusTraversable(false);
-            urlIcon.setMinSize(16, 16);
-            urlIcon.setMaxSize(16, 16);
-            urlIcon.setPrefSize(16, 16);
-
-            Button urlButton = Factory.createButton("", "Open conference website in default browser", 12);
-            urlButton.setGraphic(urlIcon);
-            urlButton.setOnAction(e -> openUrlInExternalBrowser(this.conference.get().getUrl()));
-            urlButton.disableProperty().bind(this.model.networkMonitor.offlineProperty());
-
-            urlAndMapHBox.getChildren().addAll(webText, urlButton);
-        }
-        urlAndMapHBox.getChildren().add(Factory.createSpacer(Orientation.HORIZONTAL));
-        if (this.conference.get().getLat().isPresent() && this.conference.get().getLon().isPresent()) {
-            Region mapIcon = new Region();
-            mapIcon.getStyleClass().add("map-icon");
-            mapIcon.setFocusTraversable(false);
-            mapIcon.setMinSize(16, 16);
-            mapIcon.setMaxSize(16, 16);
-            mapIcon.setPrefSize(16, 16);
-
-            Button mapButton = Factory.createButton("", "Open conference location in google maps in default browser", 12);
-            mapButton.setGraphic(mapIcon);
-            mapButton.setOnAction(e -> openUrlInExternalBrowser("https://www.google.com/maps/search/?api=1&query=" + conference.get().getLat().get() + "," + conference.get().getLon().get()));
-            mapButton.disableProperty().bind(this.model.networkMonitor.offlineProperty());
-
-            urlAndMapHBox.getChildren().add(mapButton);
-        }
 
         // CfP and Attendence
-        HBox cfpAndAttendenceHBox = new HBox(5);
-        cfpAndAttendenceHBox.setAlignment(Pos.CENTER);
-        if (this.conference.get().getCfpUrl().isPresent()) {
-            Label cfpText = new Label("CFP");
-            cfpText.setMinWidth(28);
-            cfpText.setFont(Fonts.avenirNextLtProRegular(12));
-
-            Region urlIcon = new Region();
-            urlIcon.getStyleClass().add("url-icon");
-            urlIcon.setFocusTraversable(false);
-            urlIcon.setMinSize(16, 16);
-            urlIcon.setMaxSize(16, 16);
-            urlIcon.setPrefSize(16, 16);
-
-            Button cfpUrlButton = Factory.createButton("", "Open conference cfp website in default browser", 12);
-            cfpUrlButton.setGraphic(urlIcon);
-            cfpUrlButton.setOnAction(e -> openUrlInExternalBrowser(this.conference.get().getCfpUrl().get()));
-            cfpUrlButton.disableProperty().bind(this.model.networkMonitor.offlineProperty());
-
-            cfpAndAttendenceHBox.getChildren().addAll(cfpText, cfpUrlButton);
-
-            if (this.conference.get().getCfpDate().isPresent()) {
-                Optional<Instant>[] optCfpDate = Helper.getDatesFromJavaConferenceDate(this.conference.get().getCfpDate().get());
-                if (optCfpDate.length > 0 && optCfpDate[0].isPresent()) {
-                    ZonedDateTime endDate      = ZonedDateTime.ofInstant(optCfpDate[0].get(), ZoneId.systemDefault());
-                    Label         cfpDateLabel = new Label(df.format(endDate));
-                    cfpDateLabel.setFont(Fonts.avenirNextLtProRegular(12));
-                    cfpDateLabel.setPadding(new Insets(4, 10, 4, 10));
-                    cfpDateLabel.setBackground(new Background(new BackgroundFill(Helper.getColorForCfpDate(endDate.toLocalDate()) , new CornerRadii(5), Insets.EMPTY)));
-                    cfpDateLabel.setTextFill(Constants.WHITE);
-                    cfpAndAttendenceHBox.getChildren().add(cfpDateLabel);
-                }
-            }
-        }
-
-        ComboBox<Constants.AttendingStatus> attendenceComboBox = new ComboBox<>();
+        cfpText = new Label("CFP");
+        cfpText.setMinWidth(28);
+        cfpText.setFont(Fonts.avenirNextLtProRegular(12));
+
+        Region cfpUrlIcon = new Region();
+        cfpUrlIcon.getStyleClass().add("url-icon");
+        cfpUrlIcon.setFocusTraversable(false);
+        cfpUrlIcon.setMinSize(16, 16);
+        cfpUrlIcon.setMaxSize(16, 16);
+        cfpUrlIcon.setPrefSize(16, 16);
+
+        cfpUrlButton = Factory.createButton("", "Open conference cfp website in default browser", 12);
+        cfpUrlButton.setGraphic(cfpUrlIcon);
+        cfpUrlButton.setOnAction(e -> Helper.openUrlInExternalBrowser(this.main, this.conference.get().getCfpUrl().get()));
+        cfpUrlButton.disableProperty().bind(this.model.networkMonitor.offlineProperty());
+
+        cfpDateLabel = new Label();
+        cfpDateLabel.setFont(Fonts.avenirNextLtProRegular(12));
+        cfpDateLabel.setPadding(new Insets(4, 10, 4, 10));
+        cfpDateLabel.setTextFill(Constants.WHITE);
+
+        attendenceComboBox = new ComboBox<>();
         attendenceComboBox.getItems().addAll(Constants.AttendingStatus.values());
-        attendenceComboBox.getSelectionModel().select(this.conference.get().getAttendence());
         attendenceComboBox.setCellFactory(_ -> new ListCell<>() {
             @Override protected void updateItem(Constants.AttendingStatus attendence, boolean empty) {
                 super.updateItem(attendence, empty);
@@ -269,8 +247,9 @@ public class ConferenceView extends Region {
             @Override public Constants.AttendingStatus fromString(final String s) { return AttendingStatus.fromText(s); }
         });
         attendenceComboBox.getEditor().setFont(Fonts.avenirNextLtProRegular(12));
-        attendenceComboBox.getSelectionModel().selectedItemProperty().addListener((o, ov, nv) -> this.conference.get().setAttendence(nv));
-        cfpAndAttendenceHBox.getChildren().addAll(Factory.createSpacer(Orientation.HORIZONTAL), attendenceComboBox);
+        attendenceComboBox.getSelectionModel().selectedItemProperty().addListener((o, ov, nv) -> { if (null != nv) { this.conference.get().setAttendence(nv); } });
+
+        HBox cfpAndAttendenceHBox = new HBox(5, cfpText, cfpUrlButton, cfpDateLabel, Factory.createSpacer(Orientation.HORIZONTAL), attendenceComboBox);
         cfpAndAttendenceHBox.setAlignment(Pos.CENTER);
 
         // Proposals
@@ -288,25 +267,20 @@ public class ConferenceView extends Region {
         MenuButton addProposalButton = new MenuButton("", plusIcon);
         addProposalButton.setGraphicTextGap(0);
         addProposalButton.setOnAction(e -> {
-            final String selectedProposal = ((MenuItem) e.getTarget()).getText();
-            this.proposals.stream()
-                          .filter(proposal -> proposal.getTitle().equals(selectedProposal))
-                          .findFirst()
-                          .ifPresent(proposal -> this.conference.get().getProposals().put(proposal, ProposalStatus.NOT_SUBMITTED));
-        });
-        this.proposals.forEach(proposal -> {
-            MenuItem menuItem = new MenuItem(proposal.getTitle());
-            addProposalButton.getItems().add(menuItem);
+            final ProposalItem proposal = this.model.getProposal((String) ((MenuItem) e.getTarget()).getUserData());
+            if (null != proposal) { this.conference.get().getProposals().put(proposal, ProposalStatus.NOT_SUBMITTED); }
         });
+        // Views are reused across updates, so the menu has to reflect the proposals at the time it is shown
+        addProposalButton.setOnShowing(e -> updateProposalMenu(addProposalButton));
+        updateProposalMenu(addProposalButton);
 
         HBox proposalsBox = new HBox(proposalsText, Factory.createSpacer(Orientation.HORIZONTAL), addProposalButton);
         proposalsBox.setAlignment(Pos.CENTER);
 
-        VBox proposedSessions = new VBox(5);
+        proposedSessions = new VBox(5);
         proposedSessions.setPadding(new Insets(5, 0, 5, 0));
-        updateConferenceProposals(proposedSessions);
 
-        this.conference.get().getProposals().addListener((MapChangeListener<? super ProposalItem, ? super ProposalStatus>) _ -> updateConferenceProposals(proposedSessions));
+        proposalsListener = _ -> updateConferenceProposals(proposedSessions);
 
         vBox = new VBox(10, conferenceNameHBox, conferenceDateHBox, urlAndMapHBox, cfpAndAttendenceHBox, proposalsBox, proposedSessions, new Separator(Orientation.HORIZONTAL));
         vBox.setFillWidth(true);
@@ -331,16 +305,72 @@ public class ConferenceView extends Region {
     @Override protected double computeMaxWidth(final double height)  { return MAXIMUM_WIDTH; }
     @Override protected double computeMaxHeight(final double width)  { return MAXIMUM_HEIGHT; }
 
-    private void openUrlInExternalBrowser(final String url) {
-        if (this.model.networkMonitor.isOnline()) {
-            try {
-                new ProcessBuilder("x-www-browser", url).start();
-            } catch (IOException ex) {
-                this.main.getHostServices().showDocument(url);
-            }
+    public ConferenceItem getConference() { return conference.get(); }
+    public void setConference(final ConferenceItem conference) { this.conference.set(conference); }
+    public ObjectProperty<ConferenceItem> conferenceProperty() { return conference; }
+
+    private void bind(final ConferenceItem conference) {
+        if (null != this.boundConference) { this.boundConference.getProposals().removeListener(proposalsListener); }
+        this.boundConference = conference;
+        if (null == conference) { return; }
+        conference.getProposals().addListener(proposalsListener);
+        update();
+    }
+
+    private void update() {
+        final ConferenceItem conference = this.conference.get();
+        this.isoInfo = IsoCountryCodes.searchByName(conference.getCountry()).orElse(null);
+        this.flag    = null == this.isoInfo ? Flag.NOT_FOUND : this.isoInfo.getFlag();
+
+        conferenceName.setText(conference.getName());
+        (null == this.isoInfo ? Flag.NOT_FOUND : this.flag).applyTo(flagImage, 20);
+
+        ZonedDateTime date = ZonedDateTime.ofInstant(conference.getDate(), ZoneId.systemDefault());
+        if (conference.getDays() > 1) {
+            daysText.setText(this.formatter.format(date) + " (" + String.format("%.0f", conference.getDays()) + " days)");
+        } else {
+            daysText.setText(this.formatter.format(date));
+        }
+        final String countryName = this.isoInfo != null ? this.isoInfo.name() : conference.getCountry();
+        cityText.setText(conference.getCity() + (countryName.isBlank() ? "" : ","));
+        countryText.setText(countryName);
+
+        final boolean hasUrl = !conference.getUrl().isEmpty();
+        setVisible(hasUrl, webText, urlButton);
+        setVisible(conference.getLat().isPresent() && conference.getLon().isPresent(), mapButton);
+
+        final boolean hasCfpUrl = conference.getCfpUrl().isPresent();
+        setVisible(hasCfpUrl, cfpText, cfpUrlButton);
+        boolean hasCfpDate = false;
+        if (hasCfpUrl && conference.hasCfpEndDate()) {
+            final LocalDate endDate = LocalDate.ofEpochDay(conference.getCfpEndEpochDay());
+            cfpDateLabel.setText(df.format(endDate));
+            cfpDateLabel.setBackground(new Background(new BackgroundFill(Helper.getColorForCfpDate(endDate) , new CornerRadii(5), Insets.EMPTY)));
+            hasCfpDate = true;
+        }
+        setVisible(hasCfpDate, cfpDateLabel);
+
+        attendenceComboBox.getSelectionModel().select(conference.getAttendence());
+        updateConferenceProposals(proposedSessions);
+    }
+
+    private static void setVisible(final boolean visible, final Node... nodes) {
+        for (Node node : nodes) {
+            node.setVisible(visible);
+            node.setManaged(visible);
         }
     }
 
+    private void updateProposalMenu(final MenuButton addProposalButton) {
+        List<MenuItem> menuItems = new ArrayList<>();
+        this.proposals.forEach(proposal -> {
+            final MenuItem menuItem = new MenuItem(proposal.getTitle());
+            menuItem.setUserData(proposal.getId());
+            menuItems.add(menuItem);
+        });
+        addProposalButton.getItems().setAll(menuItems);
+    }
+
     private void updateConferenceProposals(final VBox proposedSessions) {
         List<HBox> prpsd = new ArrayList<>();
         this.conference.get().getProposals().entrySet().forEach(entry -> {
@@ -380,9 +410,9 @@ public class ConferenceView extends Region {
             HBox proposalStateBox = new HBox(proposalText, Factory.createSpacer(Orientation.HORIZONTAL), proposalStatusComboBox);
             proposalStateBox.setAlignment(Pos.CENTER);
             prpsd.add(proposalStateBox);
-            setPrefHeight(PREFERRED_HEIGHT + prpsd.size() * 20);
         });
         proposedSessions.getChildren().setAll(prpsd);
+        setPrefHeight(PREFERRED_HEIGHT + prpsd.size() * 20);
     }
 
 